@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-row cost of mapping a wide result set into beans, with method handle
+ * and with generated property accessors, compared to a hand written row mapper doing the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class BeanMappingBenchmark {
+    private static final int ROWS = 10_000;
+    private static final String SELECT = "select * from wide_table";
+
+    private JdbiRule db;
+    private Jdbi jdbi;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(BeanMappingBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        jdbi = db.getJdbi();
+        jdbi.registerRowMapper(BeanMapper.factory(WideBean.class));
+
+        jdbi.useHandle(h -> {
+            h.execute("create table wide_table (id int, name varchar, description varchar, "
+                + "a int, b int, c int, d int, e bigint, f bigint, g bigint, h bigint, "
+                + "s1 varchar, s2 varchar, s3 varchar, s4 varchar)");
+            for (int i = 0; i < ROWS; i++) {
+                h.createUpdate("insert into wide_table values (:i, 'name', 'description', "
+                    + ":i, :i, :i, :i, :i, :i, :i, :i, 's1', 's2', 's3', 's4')")
+                    .bind("i", i)
+                    .execute();
+            }
+        });
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<WideBean> mapBean() {
+        return jdbi.withHandle(h -> h.createQuery(SELECT).mapTo(WideBean.class).list());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<WideBean> mapBeanGeneratedAccessors() {
+        return jdbi.withHandle(h -> {
+            h.getConfig(ReflectionMappers.class).setGeneratedAccessors(true);
+            return h.createQuery(SELECT).mapTo(WideBean.class).list();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<WideBean> mapByHand() {
+        return jdbi.withHandle(h -> h.createQuery(SELECT).map((rs, ctx) -> {
+            WideBean bean = new WideBean();
+            bean.setId(rs.getInt("id"));
+            bean.setName(rs.getString("name"));
+            bean.setDescription(rs.getString("description"));
+            bean.setA(rs.getInt("a"));
+            bean.setB(rs.getInt("b"));
+            bean.setC(rs.getInt("c"));
+            bean.setD(rs.getInt("d"));
+            bean.setE(rs.getLong("e"));
+            bean.setF(rs.getLong("f"));
+            bean.setG(rs.getLong("g"));
+            bean.setH(rs.getLong("h"));
+            bean.setS1(rs.getString("s1"));
+            bean.setS2(rs.getString("s2"));
+            bean.setS3(rs.getString("s3"));
+            bean.setS4(rs.getString("s4"));
+            return bean;
+        }).list());
+    }
+
+    public static class WideBean {
+        private int id;
+        private String name;
+        private String description;
+        private int a;
+        private int b;
+        private int c;
+        private int d;
+        private long e;
+        private long f;
+        private long g;
+        private long h;
+        private String s1;
+        private String s2;
+        private String s3;
+        private String s4;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getA() {
+            return a;
+        }
+
+        public void setA(int a) {
+            this.a = a;
+        }
+
+        public int getB() {
+            return b;
+        }
+
+        public void setB(int b) {
+            this.b = b;
+        }
+
+        public int getC() {
+            return c;
+        }
+
+        public void setC(int c) {
+            this.c = c;
+        }
+
+        public int getD() {
+            return d;
+        }
+
+        public void setD(int d) {
+            this.d = d;
+        }
+
+        public long getE() {
+            return e;
+        }
+
+        public void setE(long e) {
+            this.e = e;
+        }
+
+        public long getF() {
+            return f;
+        }
+
+        public void setF(long f) {
+            this.f = f;
+        }
+
+        public long getG() {
+            return g;
+        }
+
+        public void setG(long g) {
+            this.g = g;
+        }
+
+        public long getH() {
+            return h;
+        }
+
+        public void setH(long h) {
+            this.h = h;
+        }
+
+        public String getS1() {
+            return s1;
+        }
+
+        public void setS1(String s1) {
+            this.s1 = s1;
+        }
+
+        public String getS2() {
+            return s2;
+        }
+
+        public void setS2(String s2) {
+            this.s2 = s2;
+        }
+
+        public String getS3() {
+            return s3;
+        }
+
+        public void setS3(String s3) {
+            this.s3 = s3;
+        }
+
+        public String getS4() {
+            return s4;
+        }
+
+        public void setS4(String s4) {
+            this.s4 = s4;
+        }
+    }
+}
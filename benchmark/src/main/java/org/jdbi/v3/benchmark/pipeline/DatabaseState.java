@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark.pipeline;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An embedded database shared by the pipeline benchmarks, holding {@link #ROWS} rows in
+ * {@code pipeline_row} and an empty {@code pipeline_batch} table for inserts.
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+    public static final int ROWS = 1_000;
+
+    public enum Database {
+        H2,
+        SQLITE
+    }
+
+    @Param({"H2", "SQLITE"})
+    public Database database;
+
+    private Jdbi jdbi;
+    private Handle keepAlive;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (database) {
+            case H2:
+                jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+                break;
+            case SQLITE:
+                file = File.createTempFile("jdbi-pipeline", ".db");
+                jdbi = Jdbi.create("jdbc:sqlite:" + file.getAbsolutePath());
+                break;
+            default:
+                throw new IllegalStateException("Unknown database " + database);
+        }
+        keepAlive = jdbi.open();
+
+        keepAlive.execute("create table pipeline_row (id integer primary key, name varchar(64), amount bigint, tag varchar(16))");
+        keepAlive.execute("create table pipeline_batch (id integer, name varchar(64), amount bigint, tag varchar(16))");
+        keepAlive.useTransaction(h -> {
+            PreparedBatch batch = h.prepareBatch("insert into pipeline_row (id, name, amount, tag) values (?, ?, ?, ?)");
+            for (int i = 0; i < ROWS; i++) {
+                batch.add(i, "name " + i, i * 1_000L, "tag" + i % 10);
+            }
+            batch.execute();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        keepAlive.close();
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    public Jdbi getJdbi() {
+        return jdbi;
+    }
+}
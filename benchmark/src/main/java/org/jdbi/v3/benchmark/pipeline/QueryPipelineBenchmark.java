@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark.pipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.statement.BatchBinder;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the stages of the query pipeline which talk to the database, against H2 and SQLite:
+ * opening handles, a single row round trip, result iteration and mapping, row reduction and
+ * prepared batch inserts. Operations are rows where a benchmark handles many rows per call.
+ * <p>
+ * Run together with {@code org.jdbi.v3.core.statement.StatementStagesBenchmark} through
+ * {@link #main(String[])}, which also reports allocation rates, or with
+ * {@code java -jar target/benchmarks.jar 'QueryPipelineBenchmark|StatementStagesBenchmark' -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class QueryPipelineBenchmark {
+    private static final int BATCH_ROWS = 1_000;
+    private static final BatchBinder<Integer> ROW_BINDER = BatchBinder.<Integer>create()
+        .bind("id", int.class, i -> i)
+        .bind("name", String.class, i -> "name")
+        .bind("amount", long.class, i -> (long) i)
+        .bind("tag", String.class, i -> "tag");
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include("QueryPipelineBenchmark|StatementStagesBenchmark")
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public void handleOpenClose(DatabaseState db) {
+        db.getJdbi().open().close();
+    }
+
+    @Benchmark
+    public String queryRoundTrip(DatabaseState db) {
+        return db.getJdbi().withHandle(h -> h.createQuery("select name from pipeline_row where id = :id")
+            .bind("id", 42)
+            .mapTo(String.class)
+            .one());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DatabaseState.ROWS)
+    public List<Row> iterateRowMapper(DatabaseState db) {
+        return db.getJdbi().withHandle(h -> h.createQuery("select id, name, amount, tag from pipeline_row")
+            .map((rs, ctx) -> new Row(rs.getInt("id"), rs.getString("name"), rs.getLong("amount"), rs.getString("tag")))
+            .list());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DatabaseState.ROWS)
+    public List<Row> iterateBeanMapper(DatabaseState db) {
+        return db.getJdbi().withHandle(h -> h.createQuery("select id, name, amount, tag from pipeline_row")
+            .mapToBean(Row.class)
+            .list());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DatabaseState.ROWS)
+    public Map<String, List<Long>> reduceRows(DatabaseState db) {
+        return db.getJdbi().withHandle(h -> h.createQuery("select tag, amount from pipeline_row")
+            .reduceRows(new HashMap<String, List<Long>>(), (map, row) -> {
+                map.computeIfAbsent(row.getColumn("tag", String.class), tag -> new ArrayList<>())
+                    .add(row.getColumn("amount", Long.class));
+                return map;
+            }));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public int[] preparedBatch(DatabaseState db) {
+        return insertBatch(db, batch -> {
+            for (int i = 0; i < BATCH_ROWS; i++) {
+                batch.bind("id", i)
+                    .bind("name", "name")
+                    .bind("amount", (long) i)
+                    .bind("tag", "tag")
+                    .add();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public int[] preparedBatchAddAll(DatabaseState db) {
+        return insertBatch(db, batch -> batch.addAll(ids(), ROW_BINDER));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public int[] preparedBatchMultiRow(DatabaseState db) {
+        return insertBatch(db, batch -> batch.multiRowInserts().addAll(ids(), ROW_BINDER));
+    }
+
+    private static int[] insertBatch(DatabaseState db, Consumer<PreparedBatch> rows) {
+        return db.getJdbi().inTransaction(h -> {
+            h.execute("delete from pipeline_batch");
+            PreparedBatch batch = h.prepareBatch("insert into pipeline_batch (id, name, amount, tag) values (:id, :name, :amount, :tag)");
+            rows.accept(batch);
+            return batch.execute();
+        });
+    }
+
+    private static Iterable<Integer> ids() {
+        return () -> IntStream.range(0, BATCH_ROWS).iterator();
+    }
+
+    public static class Row {
+        private int id;
+        private String name;
+        private long amount;
+        private String tag;
+
+        public Row() {}
+
+        public Row(int id, String name, long amount, String tag) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.tag = tag;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+    }
+}
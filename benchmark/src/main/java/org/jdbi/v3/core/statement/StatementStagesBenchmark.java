@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.benchmark.pipeline.DatabaseState;
+import org.jdbi.v3.core.Handle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the statement stages which run before the database is involved: template rendering,
+ * SQL parsing with and without the parsed SQL cache, script splitting and binding arguments to a prepared statement
+ * of the H2 and SQLite drivers. Lives in the statement package to reach the uncached parsers and
+ * the argument binder. See {@code QueryPipelineBenchmark} for the database bound stages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class StatementStagesBenchmark {
+    private static final String TEMPLATE = "select <columns> from <table> where id = :id and tag in (<tags>) order by <order>";
+    private static final String SQL = "insert into pipeline_batch (id, name, amount, tag) values (:id, :name, :amount, :tag)";
+    private static final String HASH_SQL = "insert into pipeline_batch (id, name, amount, tag) values (#id, #name, #amount, #tag)";
+    private static final String IN_LIST_SQL = "select id, name from pipeline_row where tag in ("
+        + IntStream.range(0, 100).mapToObj(i -> ":tags_" + i).collect(Collectors.joining(", ")) + ") -- tags";
+    private static final String SCRIPT = "-- create the tables\n"
+        + "create table script_a (id integer primary key, name varchar(64));\n"
+        + "/* seed */ insert into script_a (id, name) values (1, 'semi;colon');\n"
+        + "create table script_b (id integer, a_id integer references script_a(id)); # done\n";
+
+    private final DefinedAttributeTemplateEngine templateEngine = new DefinedAttributeTemplateEngine();
+    private final ColonPrefixSqlParser colonParser = new ColonPrefixSqlParser();
+    private final HashPrefixSqlParser hashParser = new HashPrefixSqlParser();
+
+    private Handle handle;
+    private Query query;
+    private PreparedStatement stmt;
+    private ParsedParameters parameters;
+
+    @Setup
+    public void setup(DatabaseState db) throws SQLException {
+        handle = db.getJdbi().open();
+        query = handle.createQuery(SQL)
+            .define("columns", "id, name, amount")
+            .define("table", "pipeline_row")
+            .define("tags", ":tag1, :tag2")
+            .define("order", "id desc")
+            .bind("id", 1)
+            .bind("name", "name")
+            .bind("amount", 1_000L)
+            .bind("tag", "tag");
+        stmt = handle.getConnection().prepareStatement(colonParser.internalParse(SQL).getSql());
+        parameters = colonParser.internalParse(SQL).getParameters();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        stmt.close();
+        query.close();
+        handle.close();
+    }
+
+    @Benchmark
+    public String renderTemplate() {
+        return templateEngine.render(TEMPLATE, query.getContext());
+    }
+
+    @Benchmark
+    public ParsedSql parseColon() {
+        return colonParser.internalParse(SQL);
+    }
+
+    @Benchmark
+    public ParsedSql parseHash() {
+        return hashParser.internalParse(HASH_SQL);
+    }
+
+    @Benchmark
+    public ParsedSql parseInList() {
+        return colonParser.internalParse(IN_LIST_SQL);
+    }
+
+    @Benchmark
+    public ParsedSql parseCached() {
+        return colonParser.parse(SQL, query.getContext());
+    }
+
+    @Benchmark
+    public List<String> splitScript() {
+        return handle.createScript(SCRIPT).getStatements();
+    }
+
+    @Benchmark
+    public PreparedStatement bindArguments() {
+        new ArgumentBinder<>(stmt, query.getContext(), parameters).bind(query.getBinding());
+        return stmt;
+    }
+}
@@ -1,37 +0,0 @@
-/*
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-lexer grammar HashStatementLexer;
-
-fragment QUOTE: '\'';
-fragment ESCAPE: '\\';
-fragment ESCAPE_QUOTE: ESCAPE QUOTE;
-fragment DOUBLE_QUOTE: '"';
-fragment HASH: '#';
-fragment QUESTION: {_input.LA(2) != '?'}? '?';
-fragment DOUBLE_QUESTION: {_input.LA(2) == '?'}? '??';
-fragment NAME: JAVA_LETTER | [0-9] | '.' | '?.';
-
-/* Lovingly lifted from https://github.com/antlr/grammars-v4/blob/master/java/JavaLexer.g4 */
-fragment JAVA_LETTER : [a-zA-Z$_] | ~[\u0000-\u007F\uD800-\uDBFF] | [\uD800-\uDBFF] [\uDC00-\uDFFF];
-
-COMMENT: '/*' .*? '*/' | '--' ~('\r' | '\n')* | '//' ~('\r' | '\n')*;
-QUOTED_TEXT: QUOTE (ESCAPE_QUOTE | ~'\'')* QUOTE;
-DOUBLE_QUOTED_TEXT: DOUBLE_QUOTE (~'"')+ DOUBLE_QUOTE;
-ESCAPED_TEXT : ESCAPE . ;
-
-NAMED_PARAM: HASH (NAME)+;
-POSITIONAL_PARAM: QUESTION;
-
-LITERAL: DOUBLE_QUESTION | .;
@@ -17,16 +17,21 @@ import java.io.Closeable;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.Configurable;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.internal.OwnedThreadLocal;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.statement.Batch;
 import org.jdbi.v3.core.statement.Call;
+import org.jdbi.v3.core.statement.Cleanable;
 import org.jdbi.v3.core.statement.MetaData;
 import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.Query;
@@ -37,6 +42,7 @@ import org.jdbi.v3.core.transaction.TransactionException;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.jdbi.v3.core.transaction.UnableToManipulateTransactionIsolationLevelException;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,9 +63,10 @@ public class Handle implements Closeable, Configurable<Handle> {
     private final TransactionHandler transactions;
     private final Connection connection;
     private final boolean forceEndTransactions;
+    private final Set<Cleanable> cleanables = Collections.synchronizedSet(new LinkedHashSet<>());
 
-    private ThreadLocal<ConfigRegistry> localConfig;
-    private ThreadLocal<ExtensionMethod> localExtensionMethod;
+    private OwnedThreadLocal<ConfigRegistry> localConfig;
+    private OwnedThreadLocal<ExtensionMethod> localExtensionMethod;
     private StatementBuilder statementBuilder;
 
     private boolean closed = false;
@@ -74,8 +81,8 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.closer = closer;
         this.connection = connection;
 
-        this.localConfig = ThreadLocal.withInitial(() -> localConfig);
-        this.localExtensionMethod = new ThreadLocal<>();
+        this.localConfig = new OwnedThreadLocal<>(localConfig);
+        this.localExtensionMethod = new OwnedThreadLocal<>(null);
         this.statementBuilder = statementBuilder;
         this.transactions = transactions.specialize(this);
         this.forceEndTransactions = !transactions.isInTransaction(this);
@@ -94,7 +101,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.localConfig.set(config);
     }
 
-    void setLocalConfig(ThreadLocal<ConfigRegistry> configThreadLocal) {
+    void setLocalConfig(OwnedThreadLocal<ConfigRegistry> configThreadLocal) {
         // Without explicit remove the Tomcats thread-local leak detector gives superfluous warnings
         this.localConfig.remove();
         this.localConfig = configThreadLocal;
@@ -140,6 +147,21 @@ public class Handle implements Closeable, Configurable<Handle> {
             return;
         }
 
+        // statements still open end their work before an open transaction is detected
+        List<Cleanable> cleanablesCopy;
+        synchronized (cleanables) {
+            cleanablesCopy = new ArrayList<>(cleanables);
+            cleanables.clear();
+        }
+        Collections.reverse(cleanablesCopy);
+        for (Cleanable cleanable : cleanablesCopy) {
+            try {
+                cleanable.close();
+            } catch (Exception e) {
+                suppressed.add(e);
+            }
+        }
+
         boolean wasInTransaction = false;
         if (forceEndTransactions && localConfig.get().get(Handles.class).isForceEndTransactions()) {
             try {
@@ -191,6 +213,28 @@ public class Handle implements Closeable, Configurable<Handle> {
         }
     }
 
+    /**
+     * Registers a cleanable to be closed when this handle is closed, before the handle checks for an open
+     * transaction and closes its connection. Cleanables are closed in reverse order of registration.
+     *
+     * @param cleanable the cleanable to close with this handle
+     */
+    @Beta
+    public void addCleanable(Cleanable cleanable) {
+        cleanables.add(cleanable);
+    }
+
+    /**
+     * Unregisters a cleanable, e.g. once it was closed before this handle.
+     *
+     * @param cleanable the cleanable registered with {@link #addCleanable(Cleanable)}
+     * @return true if the cleanable was still registered
+     */
+    @Beta
+    public boolean removeCleanable(Cleanable cleanable) {
+        return cleanables.remove(cleanable);
+    }
+
     /**
      * @return whether the Handle is closed
      */
@@ -589,7 +633,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.localExtensionMethod.set(extensionMethod);
     }
 
-    void setExtensionMethodThreadLocal(ThreadLocal<ExtensionMethod> extensionMethodThreadLocal) {
+    void setExtensionMethodThreadLocal(OwnedThreadLocal<ExtensionMethod> extensionMethodThreadLocal) {
         this.localExtensionMethod = requireNonNull(extensionMethodThreadLocal);
     }
 
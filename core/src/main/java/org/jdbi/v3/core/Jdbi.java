@@ -19,6 +19,7 @@ import java.sql.SQLException;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -68,6 +69,7 @@ public class Jdbi implements Configurable<Jdbi> {
     private Jdbi(ConnectionFactory connectionFactory) {
         Objects.requireNonNull(connectionFactory, "null connectionFactory");
         this.connectionFactory = connectionFactory;
+        config.get(OnDemandExtensions.class).setHandleScope(new OnDemandHandleScope(this));
     }
 
     /**
@@ -466,6 +468,25 @@ public class Jdbi implements Configurable<Jdbi> {
         }
     }
 
+    // the handle supplier of the Jdbi callback running on this thread, if any
+    HandleSupplier getThreadHandleSupplier() {
+        return threadHandleSupplier.get();
+    }
+
+    // calls the task within the Jdbi callback running on this thread, or else with a lazily opened handle, like withExtension
+    <V> V callWithThreadHandleSupplier(Callable<V> task) throws Exception {
+        if (threadHandleSupplier.get() != null) {
+            return task.call();
+        }
+
+        try (LazyHandleSupplier handleSupplier = new LazyHandleSupplier(this, config)) {
+            threadHandleSupplier.set(handleSupplier);
+            return task.call();
+        } finally {
+            threadHandleSupplier.remove();
+        }
+    }
+
     private <R, E, X extends Exception> R callWithExtension(Class<E> extensionType,
                                                             ExtensionCallback<R, E, X> callback,
                                                             HandleSupplier handle) throws X {
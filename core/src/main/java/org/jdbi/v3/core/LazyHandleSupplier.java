@@ -19,6 +19,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.internal.OnDemandHandleSupplier;
+import org.jdbi.v3.core.internal.OwnedThreadLocal;
 
 import static org.jdbi.v3.core.internal.Invocations.invokeWith;
 
@@ -26,15 +27,15 @@ class LazyHandleSupplier implements HandleSupplier, AutoCloseable, OnDemandHandl
     private final Object[] lock = new Object[0];
 
     private final Jdbi db;
-    private final ThreadLocal<ConfigRegistry> localConfig;
-    private final ThreadLocal<ExtensionMethod> localExtensionMethod = new ThreadLocal<>();
+    private final OwnedThreadLocal<ConfigRegistry> localConfig;
+    private final OwnedThreadLocal<ExtensionMethod> localExtensionMethod = new OwnedThreadLocal<>(null);
 
     private volatile Handle handle;
     private volatile boolean closed = false;
 
     LazyHandleSupplier(Jdbi db, ConfigRegistry config) {
         this.db = db;
-        localConfig = ThreadLocal.withInitial(() -> config);
+        localConfig = new OwnedThreadLocal<>(config);
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.concurrent.Callable;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.internal.OnDemandExtensions;
+
+/**
+ * Stands for the handle supplier of the on-demand call running on the current thread, so an on-demand extension
+ * can be attached to it once rather than on every call.
+ */
+class OnDemandHandleScope implements OnDemandExtensions.HandleScope {
+    private final Jdbi db;
+
+    OnDemandHandleScope(Jdbi db) {
+        this.db = db;
+    }
+
+    @Override
+    public <V> V call(Callable<V> task) throws Exception {
+        return db.callWithThreadHandleSupplier(task);
+    }
+
+    @Override
+    public Jdbi getJdbi() {
+        return db;
+    }
+
+    @Override
+    public ConfigRegistry getConfig() {
+        return current().getConfig();
+    }
+
+    @Override
+    public Handle getHandle() {
+        return current().getHandle();
+    }
+
+    @Override
+    public <V> V invokeInContext(ExtensionMethod extensionMethod, ConfigRegistry config, Callable<V> task) throws Exception {
+        return current().invokeInContext(extensionMethod, config, task);
+    }
+
+    private HandleSupplier current() {
+        HandleSupplier current = db.getThreadHandleSupplier();
+        if (current == null) {
+            throw new IllegalStateException("On-demand extensions may only use a handle during a call");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.argument.internal;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.argument.ObjectFieldArguments;
+import org.jdbi.v3.core.argument.ObjectMethodArguments;
+import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties.PojoProperty;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+
+/**
+ * Binds the properties of a bean, or its public fields or methods, through property accessors which are
+ * resolved once per (object type, prefix, parameter name) and shared by every statement of a Jdbi with the
+ * same {@link ReflectionMappers#isGeneratedAccessors() accessor generation} setting. Only the accessors are
+ * shared: argument factories are still looked up in the configuration of the executing statement. Nested names are left to the regular {@link ObjectPropertyNamedArgumentFinder}.
+ */
+@SuppressWarnings("deprecation")
+public final class PreparedPropertyArguments implements NamedArgumentFinder {
+    private static final JdbiCache<PrepareKey, Map<String, Optional<Function<Object, TypedValue>>>> ACCESSOR_CACHE =
+            JdbiCaches.declare(key -> new ConcurrentHashMap<>());
+    // bean accessors resolved while ReflectionMappers generates accessors, which handles may enable on their own
+    private static final JdbiCache<PrepareKey, Map<String, Optional<Function<Object, TypedValue>>>> GENERATED_ACCESSOR_CACHE =
+            JdbiCaches.declare(key -> new ConcurrentHashMap<>());
+
+    private final Resolver resolver;
+    private final Map<String, Optional<Function<Object, TypedValue>>> accessors;
+    private final String prefix;
+    private final Object value;
+    private final Supplier<NamedArgumentFinder> fallbackSupplier;
+    private NamedArgumentFinder fallback;
+
+    private PreparedPropertyArguments(Resolver resolver,
+                                      Map<String, Optional<Function<Object, TypedValue>>> accessors,
+                                      String prefix,
+                                      Object value,
+                                      Supplier<NamedArgumentFinder> fallbackSupplier) {
+        this.resolver = resolver;
+        this.accessors = accessors;
+        this.prefix = prefix == null || prefix.isEmpty() ? "" : prefix + ".";
+        this.value = value;
+        this.fallbackSupplier = fallbackSupplier;
+    }
+
+    /**
+     * @param factory the factory the object is bound with
+     * @param prefix the optional name prefix
+     * @param value the object to bind
+     * @param config the configuration of the statement
+     * @param fallback creates the regular finder, used for nested names and descriptions
+     * @return a finder with shared accessors, or empty if the factory does not support them
+     */
+    public static Optional<NamedArgumentFinder> prepare(NamedArgumentFinderFactory<?> factory,
+                                                        String prefix,
+                                                        Object value,
+                                                        ConfigRegistry config,
+                                                        Supplier<NamedArgumentFinder> fallback) {
+        JdbiCache<PrepareKey, Map<String, Optional<Function<Object, TypedValue>>>> cache =
+                config.get(ReflectionMappers.class).isGeneratedAccessors() ? GENERATED_ACCESSOR_CACHE : ACCESSOR_CACHE;
+        return resolverFor(factory).map(resolver -> new PreparedPropertyArguments(
+                resolver,
+                cache.get(factory.keyFor(prefix, value), config),
+                prefix,
+                value,
+                fallback));
+    }
+
+    @Override
+    public Optional<Argument> find(String name, StatementContext ctx) {
+        if (!name.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        String actualName = name.substring(prefix.length());
+        if (actualName.indexOf('.') != -1) {
+            return fallback().find(name, ctx);
+        }
+        Optional<Function<Object, TypedValue>> accessor = accessors.get(actualName);
+        if (accessor == null) {
+            accessor = resolver.resolve(value, actualName, ctx.getConfig());
+            accessors.put(actualName, accessor);
+        }
+        return accessor.map(getter -> {
+            TypedValue tv = getter.apply(value);
+            return ctx.findArgumentFor(tv.getType(), tv.getValue())
+                .orElseThrow(() -> new UnableToCreateStatementException(
+                    String.format("No argument factory registered for type [%s] for element [%s] on [%s]",
+                        tv.getType(),
+                        name,
+                        value),
+                    ctx));
+        });
+    }
+
+    @Override
+    public Collection<String> getNames() {
+        return fallback().getNames();
+    }
+
+    private NamedArgumentFinder fallback() {
+        if (fallback == null) {
+            fallback = fallbackSupplier.get();
+        }
+        return fallback;
+    }
+
+    @Override
+    public String toString() {
+        return fallback().toString();
+    }
+
+    private static Optional<Resolver> resolverFor(NamedArgumentFinderFactory<?> factory) {
+        if (NamedArgumentFinderFactory.BEAN.equals(factory)) {
+            return Optional.of(PreparedPropertyArguments::beanProperty);
+        }
+        if (NamedArgumentFinderFactory.FIELDS.equals(factory)) {
+            return Optional.of((example, name, config) -> new ObjectFieldArguments(null, example).getter(name, config));
+        }
+        if (NamedArgumentFinderFactory.METHODS.equals(factory)) {
+            return Optional.of((example, name, config) -> new ObjectMethodArguments(null, example).getter(name, config));
+        }
+        // pojo properties depend on the PojoTypes of each configuration
+        return Optional.empty();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Optional<Function<Object, TypedValue>> beanProperty(Object example, String name, ConfigRegistry config) {
+        return Optional.ofNullable((PojoProperty) BeanPropertiesFactory.propertiesFor(example.getClass(), config).getProperties().get(name))
+                .map(property -> obj -> new TypedValue(property.getQualifiedType(), property.get(obj)));
+    }
+
+    // resolves an accessor which must not retain the example object, as it is shared by the whole Jdbi
+    @FunctionalInterface
+    private interface Resolver {
+        Optional<Function<Object, TypedValue>> resolve(Object example, String name, ConfigRegistry config);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class BoundedJdbiExecutor implements JdbiExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedJdbiExecutor.class);
+
+    private final Jdbi jdbi;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final int maxQueued;
+
+    private final Queue<Task<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    BoundedJdbiExecutor(Jdbi jdbi, Executor executor, int maxConcurrency, int maxQueued) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+        }
+        this.jdbi = jdbi;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public <R, X extends Exception> CompletionStage<R> withHandle(HandleCallback<R, X> callback) {
+        Task<R> task = new Task<>(callback);
+        if (queued.incrementAndGet() > maxQueued && inFlight.get() >= maxConcurrency) {
+            queued.decrementAndGet();
+            task.future.completeExceptionally(new RejectedExecutionException(
+                String.format("%d callbacks are running and %d are waiting already", maxConcurrency, maxQueued)));
+            return task.future;
+        }
+        queue.add(task);
+        dispatch();
+        return task.future;
+    }
+
+    // starts queued tasks while there are free slots; called whenever a task is queued or a slot is freed
+    private void dispatch() {
+        while (!queue.isEmpty()) {
+            int running = inFlight.get();
+            if (running >= maxConcurrency) {
+                return;
+            }
+            if (!inFlight.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            Task<?> task = queue.poll();
+            if (task == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.future.completeExceptionally(e);
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getStartedCount() {
+        return started.sum();
+    }
+
+    @Override
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    private final class Task<R> implements Runnable {
+        private final HandleCallback<R, ?> callback;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final AtomicReference<Statement> executing = new AtomicReference<>();
+        private final long queuedAt = System.nanoTime();
+
+        Task(HandleCallback<R, ?> callback) {
+            this.callback = callback;
+            future.whenComplete((result, error) -> {
+                if (!future.isCancelled()) {
+                    return;
+                }
+                // a waiting task leaves the queue; a running one, or one being started, stops its statement
+                if (queue.remove(this)) {
+                    queued.decrementAndGet();
+                } else {
+                    cancelExecuting();
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            // a task cancelled while it waited is skipped
+            if (future.isDone()) {
+                release();
+                return;
+            }
+            started.increment();
+            queueWaitNanos.add(System.nanoTime() - queuedAt);
+            R result = null;
+            Throwable failure = null;
+            try {
+                result = callWithHandle();
+            } catch (Throwable t) {
+                failure = t;
+            }
+            // the slot is free before the future completes, so dependent stages see the released slot
+            release();
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+            dispatch();
+        }
+
+        // Jdbi.withHandle makes the handle the one of this thread, so nested Jdbi calls in the callback reuse it
+        private R callWithHandle() throws Exception {
+            return jdbi.<R, Exception>withHandle(handle -> {
+                handle.addCustomizer(new StatementCustomizer() {
+                    @Override
+                    public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                        executing.set(stmt);
+                        ctx.addCleanable(() -> executing.compareAndSet(stmt, null));
+                        // statements started after the task was cancelled never reach the database
+                        if (future.isCancelled()) {
+                            throw new CancellationException("Statement not executed: the callback was cancelled");
+                        }
+                    }
+                });
+                return callback.withHandle(handle);
+            });
+        }
+
+        private void cancelExecuting() {
+            Statement statement = executing.get();
+            if (statement != null) {
+                try {
+                    statement.cancel();
+                } catch (SQLException e) {
+                    LOG.debug("Unable to cancel statement", e);
+                }
+            }
+        }
+    }
+}
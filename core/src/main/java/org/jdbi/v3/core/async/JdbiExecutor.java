@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.HandleConsumer;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.ExtensionCallback;
+import org.jdbi.v3.core.extension.ExtensionConsumer;
+import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Runs {@link Jdbi} callbacks on an {@link Executor} and returns their results as {@link CompletionStage}s,
+ * so that callers do not block on the database.
+ * <p>
+ * The number of callbacks running at the same time can be limited, usually to the size of the connection
+ * pool: further callbacks wait in a first in, first out queue instead of occupying threads of the executor
+ * while they wait for a connection. Once the queue is full, callbacks are rejected with a
+ * {@link RejectedExecutionException}. Callbacks run like {@link Jdbi#withHandle(HandleCallback)}, so nested calls
+ * on the same Jdbi from within a callback reuse its handle instead of taking another connection.
+ * <p>
+ * Cancelling the {@link java.util.concurrent.CompletableFuture} of a waiting callback removes it from the queue;
+ * cancelling the future of a running callback {@link java.sql.Statement#cancel() cancels} the statement it is
+ * executing, if any, and any statement it starts afterwards throws a
+ * {@link java.util.concurrent.CancellationException} instead of executing.
+ * <p>
+ * Any executor can be used, including one which runs each callback on a virtual thread.
+ */
+@Beta
+public interface JdbiExecutor {
+    /**
+     * @param jdbi the Jdbi to open handles with
+     * @param executor the executor to run callbacks on
+     * @return an executor which does not limit the number of callbacks running at the same time
+     */
+    static JdbiExecutor create(Jdbi jdbi, Executor executor) {
+        return create(jdbi, executor, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param jdbi the Jdbi to open handles with
+     * @param executor the executor to run callbacks on
+     * @param maxConcurrency the number of callbacks which may run at the same time, usually the size of the connection pool
+     * @param maxQueued the number of callbacks which may wait to run before further callbacks are rejected
+     * @return an executor which limits the number of callbacks running at the same time
+     */
+    static JdbiExecutor create(Jdbi jdbi, Executor executor, int maxConcurrency, int maxQueued) {
+        return new BoundedJdbiExecutor(jdbi, executor, maxConcurrency, maxQueued);
+    }
+
+    /**
+     * A convenience method which opens a handle, passes it to the callback, and closes it again.
+     *
+     * @param callback a callback which will receive an open handle
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by the callback, or the exception it threw
+     * @see Jdbi#withHandle(HandleCallback)
+     */
+    <R, X extends Exception> CompletionStage<R> withHandle(HandleCallback<R, X> callback);
+
+    /**
+     * @param consumer a callback which will receive an open handle
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returned, or with the exception it threw
+     * @see Jdbi#useHandle(HandleConsumer)
+     */
+    default <X extends Exception> CompletionStage<Void> useHandle(HandleConsumer<X> consumer) {
+        return withHandle(consumer.asCallback());
+    }
+
+    /**
+     * @param callback a callback which will receive an open handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by the callback, or the exception it threw
+     * @see Jdbi#inTransaction(HandleCallback)
+     */
+    default <R, X extends Exception> CompletionStage<R> inTransaction(HandleCallback<R, X> callback) {
+        return withHandle(handle -> handle.inTransaction(callback));
+    }
+
+    /**
+     * @param consumer a callback which will receive an open handle, in a transaction
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returned, or with the exception it threw
+     * @see Jdbi#useTransaction(HandleConsumer)
+     */
+    default <X extends Exception> CompletionStage<Void> useTransaction(HandleConsumer<X> consumer) {
+        return inTransaction(consumer.asCallback());
+    }
+
+    /**
+     * @param level the transaction isolation level which will be applied to the connection for the scope of this
+     *              transaction, after which the original isolation level will be restored.
+     * @param callback a callback which will receive an open handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by the callback, or the exception it threw
+     * @see Jdbi#inTransaction(TransactionIsolationLevel, HandleCallback)
+     */
+    default <R, X extends Exception> CompletionStage<R> inTransaction(TransactionIsolationLevel level, HandleCallback<R, X> callback) {
+        return withHandle(handle -> handle.inTransaction(level, callback));
+    }
+
+    /**
+     * @param level the transaction isolation level which will be applied to the connection for the scope of this
+     *              transaction, after which the original isolation level will be restored.
+     * @param consumer a callback which will receive an open handle, in a transaction
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returned, or with the exception it threw
+     * @see Jdbi#useTransaction(TransactionIsolationLevel, HandleConsumer)
+     */
+    default <X extends Exception> CompletionStage<Void> useTransaction(TransactionIsolationLevel level, HandleConsumer<X> consumer) {
+        return inTransaction(level, consumer.asCallback());
+    }
+
+    /**
+     * @param extensionType the type of extension.
+     * @param callback      a callback which will receive the extension.
+     * @param <R> the return type
+     * @param <E> the extension type
+     * @param <X> the exception type optionally thrown by the callback
+     * @return a stage completed with the value returned by the callback, or the exception it threw
+     * @see Jdbi#withExtension(Class, ExtensionCallback)
+     */
+    default <R, E, X extends Exception> CompletionStage<R> withExtension(Class<E> extensionType, ExtensionCallback<R, E, X> callback) {
+        return withHandle(handle -> callback.withExtension(handle.attach(extensionType)));
+    }
+
+    /**
+     * @param extensionType the type of extension.
+     * @param callback      a callback which will receive the extension.
+     * @param <E> the extension type
+     * @param <X> the exception type optionally thrown by the callback
+     * @return a stage completed when the callback returned, or with the exception it threw
+     * @see Jdbi#useExtension(Class, ExtensionConsumer)
+     */
+    default <E, X extends Exception> CompletionStage<Void> useExtension(Class<E> extensionType, ExtensionConsumer<E, X> callback) {
+        return withExtension(extensionType, extension -> {
+            callback.useExtension(extension);
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of callbacks waiting to run
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the number of callbacks running
+     */
+    int getInFlight();
+
+    /**
+     * @return the number of callbacks which started to run
+     */
+    long getStartedCount();
+
+    /**
+     * @return the total time the started callbacks waited in the queue, in nanoseconds
+     */
+    long getQueueWaitNanos();
+}
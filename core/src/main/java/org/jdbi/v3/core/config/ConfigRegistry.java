@@ -54,6 +54,8 @@ public final class ConfigRegistry {
 
     private ConfigRegistry(ConfigRegistry that) {
         configFactories = that.configFactories;
+        // copied eagerly: config objects are mutated through the references get() hands out, so neither
+        // registry could tell when a shared config object is about to change
         that.configs.forEach((type, config) -> {
             JdbiConfig<?> copy = config.createCopy();
             configs.put(type, copy);
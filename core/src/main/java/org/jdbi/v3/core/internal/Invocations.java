@@ -37,6 +37,10 @@ public class Invocations {
         );
     }
 
+    public static <V, L> V invokeWith(OwnedThreadLocal<L> backing, L context, Callable<V> task) throws Exception {
+        return invokeWith(backing, backing::set, context, task);
+    }
+
     public static <V, L> V invokeWith(Supplier<L> initial, Consumer<L> becoming, L taskContext, Callable<V> task) throws Exception {
         L original = initial.get();
         try {
@@ -15,25 +15,34 @@ package org.jdbi.v3.core.internal;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 
 public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
     private static final Method EQUALS_METHOD;
     private static final Method HASHCODE_METHOD;
     private static final Method TOSTRING_METHOD;
+    private static final Object[] NO_ARGS = new Object[0];
 
     private Factory factory;
+    private HandleScope handleScope;
 
     static {
         try {
@@ -51,6 +60,7 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
 
     private OnDemandExtensions(OnDemandExtensions other) {
         factory = other.factory;
+        handleScope = other.handleScope;
     }
 
     public OnDemandExtensions setFactory(Factory factory) {
@@ -58,6 +68,18 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
         return this;
     }
 
+    public OnDemandExtensions setHandleScope(HandleScope handleScope) {
+        this.handleScope = handleScope;
+        return this;
+    }
+
+    /**
+     * @return the handle scope of the Jdbi this configuration belongs to, if any
+     */
+    public Optional<HandleScope> getHandleScope() {
+        return Optional.ofNullable(handleScope);
+    }
+
     public <E> E create(Jdbi db, Class<E> extensionType, Class<?>... extraTypes) {
         return extensionType.cast(
                factory.onDemand(db, extensionType, extraTypes)
@@ -66,20 +88,14 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
 
     private Object createProxy(Jdbi db, Class<?> extensionType, Class<?>... extraTypes) {
         db.getConfig(Extensions.class).onCreateProxy();
+        // invokers are created once per method of this proxy, not once per call
+        Map<Method, OnDemandInvoker> invokers = new ConcurrentHashMap<>();
         InvocationHandler handler = (proxy, method, args) -> {
-            if (EQUALS_METHOD.equals(method)) {
-                return proxy == args[0];
-            }
-
-            if (HASHCODE_METHOD.equals(method)) {
-                return System.identityHashCode(proxy);
+            OnDemandInvoker invoker = invokers.get(method);
+            if (invoker == null) {
+                invoker = invokers.computeIfAbsent(method, m -> createInvoker(db, extensionType, m));
             }
-
-            if (TOSTRING_METHOD.equals(method)) {
-                return extensionType + "@" + Integer.toHexString(System.identityHashCode(proxy));
-            }
-
-            return db.withExtension(extensionType, extension -> invoke(extension, method, args));
+            return invoker.invoke(proxy, args);
         };
 
         Class<?>[] types = Stream.of(
@@ -92,14 +108,41 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
         return Proxy.newProxyInstance(extensionType.getClassLoader(), types, handler);
     }
 
-    private static Object invoke(Object target, Method method, Object[] args) {
-        if (Proxy.isProxyClass(target.getClass())) {
-            InvocationHandler handler = Proxy.getInvocationHandler(target);
-            return Unchecked.<Object[], Object>function(params -> handler.invoke(target, method, params)).apply(args);
-        } else {
-            MethodHandle handle = Unchecked.function(MethodHandles.lookup()::unreflect).apply(method).bindTo(target);
-            return Unchecked.<Object[], Object>function(handle::invokeWithArguments).apply(args);
+    private static OnDemandInvoker createInvoker(Jdbi db, Class<?> extensionType, Method method) {
+        if (EQUALS_METHOD.equals(method)) {
+            return (proxy, args) -> proxy == args[0];
+        }
+
+        if (HASHCODE_METHOD.equals(method)) {
+            return (proxy, args) -> System.identityHashCode(proxy);
+        }
+
+        if (TOSTRING_METHOD.equals(method)) {
+            return (proxy, args) -> extensionType + "@" + Integer.toHexString(System.identityHashCode(proxy));
         }
+
+        // only needed for extensions which are not proxies themselves
+        Supplier<MethodHandle> methodHandle = MemoizingSupplier.of(() -> spreadingHandle(method));
+        return (proxy, args) -> db.withExtension(extensionType, extension -> invoke(extension, method, methodHandle, args));
+    }
+
+    private static Object invoke(Object target, Method method, Supplier<MethodHandle> methodHandle, Object[] args) {
+        try {
+            if (Proxy.isProxyClass(target.getClass())) {
+                return Proxy.getInvocationHandler(target).invoke(target, method, args);
+            }
+            Object[] arguments = args == null ? NO_ARGS : args;
+            return (Object) methodHandle.get().invokeExact(target, arguments);
+        } catch (Throwable t) {
+            throw Sneaky.throwAnyway(t);
+        }
+    }
+
+    // a handle of type (Object, Object[])Object, which calls the method on the target with the arguments in the array
+    private static MethodHandle spreadingHandle(Method method) {
+        MethodHandle handle = Unchecked.function(MethodHandles.lookup()::unreflect).apply(method);
+        return handle.asFixedArity().asSpreader(Object[].class, method.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
     }
 
     @Override
@@ -107,6 +150,28 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
         return new OnDemandExtensions(this);
     }
 
+    @FunctionalInterface
+    private interface OnDemandInvoker {
+        Object invoke(Object proxy, Object[] args);
+    }
+
+    /**
+     * A handle supplier which stands for the one of the on-demand call running on the current thread, so that
+     * factories can attach an on-demand extension to it once, and run each call of the extension in {@link #call}.
+     */
+    public interface HandleScope extends HandleSupplier, OnDemandHandleSupplier {
+        /**
+         * Calls the task with the handle supplier of the Jdbi callback running on this thread, or else with one
+         * which opens a handle lazily and closes it when the task returns.
+         *
+         * @param task the call of the on-demand extension
+         * @param <V> the result type
+         * @return the result of the task
+         * @throws Exception if thrown by the task
+         */
+        <V> V call(Callable<V> task) throws Exception;
+    }
+
     @FunctionalInterface
     public interface Factory {
         Optional<Object> onDemand(Jdbi db, Class<?> extensionType, Class<?>... extraTypes);
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value local to each thread, like a {@link ThreadLocal} with a constant initial value, which keeps the
+ * value of the thread that created it in a plain field. Objects used by a single thread, e.g. a handle per
+ * (virtual) thread, never create a thread local map entry; a {@code ThreadLocal} is only created once other
+ * threads set values of their own.
+ *
+ * @param <T> the value type
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public final class OwnedThreadLocal<T> implements Supplier<T> {
+    private final Thread owner = Thread.currentThread();
+    private final T initial;
+    private T ownerValue;
+    private volatile ThreadLocal<T> others;
+
+    public OwnedThreadLocal(T initial) {
+        this.initial = initial;
+        this.ownerValue = initial;
+    }
+
+    /**
+     * @return the value of the current thread
+     */
+    @Override
+    public T get() {
+        if (isOwner()) {
+            return ownerValue;
+        }
+        ThreadLocal<T> local = others;
+        return local == null ? initial : local.get();
+    }
+
+    /**
+     * @param value the new value of the current thread
+     */
+    public void set(T value) {
+        if (isOwner()) {
+            ownerValue = value;
+        } else if (Objects.equals(value, initial)) {
+            remove();
+        } else {
+            others().set(value);
+        }
+    }
+
+    /**
+     * Resets the value of the current thread to the initial value.
+     */
+    public void remove() {
+        if (isOwner()) {
+            ownerValue = initial;
+            return;
+        }
+        ThreadLocal<T> local = others;
+        if (local != null) {
+            local.remove();
+        }
+    }
+
+    private boolean isOwner() {
+        return owner.equals(Thread.currentThread());
+    }
+
+    private ThreadLocal<T> others() {
+        ThreadLocal<T> local = others;
+        if (local == null) {
+            synchronized (this) {
+                local = others;
+                if (local == null) {
+                    local = ThreadLocal.withInitial(() -> initial);
+                    others = local;
+                }
+            }
+        }
+        return local;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+/**
+ * Splits SQL statements and templates into tokens: comments, quoted text, escaped characters,
+ * parameters or defined attributes, and runs of literal text.
+ *
+ * <p>The lexer makes a single pass over the characters of the input and does not allocate per token;
+ * call {@link #nextToken()} until it returns {@link TokenType#EOF}, and read the text of each token
+ * through {@link #getText()} or its bounds.</p>
+ */
+public final class SqlLexer {
+    private static final int EOF = -1;
+
+    public enum TokenType {
+        COMMENT,
+        QUOTED_TEXT,
+        DOUBLE_QUOTED_TEXT,
+        ESCAPED_TEXT,
+        NAMED_PARAM,
+        POSITIONAL_PARAM,
+        DEFINE,
+        LITERAL,
+        EOF
+    }
+
+    private enum Dialect {
+        COLON,
+        HASH,
+        DEFINE
+    }
+
+    private final String sql;
+    private final Dialect dialect;
+    private int start;
+    private int end;
+
+    private SqlLexer(String sql, Dialect dialect) {
+        this.sql = sql;
+        this.dialect = dialect;
+    }
+
+    /**
+     * @param sql the statement
+     * @return a lexer for <code>:name</code> named parameters and <code>?</code> positional parameters,
+     * where <code>::</code> and <code>??</code> are literal text
+     */
+    public static SqlLexer colonPrefix(String sql) {
+        return new SqlLexer(sql, Dialect.COLON);
+    }
+
+    /**
+     * @param sql the statement
+     * @return a lexer for <code>#name</code> named parameters and <code>?</code> positional parameters,
+     * where <code>??</code> is literal text
+     */
+    public static SqlLexer hashPrefix(String sql) {
+        return new SqlLexer(sql, Dialect.HASH);
+    }
+
+    /**
+     * @param template the template
+     * @return a lexer for <code>&lt;name&gt;</code> defined attributes
+     */
+    public static SqlLexer definedAttributes(String template) {
+        return new SqlLexer(template, Dialect.DEFINE);
+    }
+
+    /**
+     * @return the type of the next token
+     */
+    public TokenType nextToken() {
+        start = end;
+        if (start == sql.length()) {
+            return TokenType.EOF;
+        }
+        TokenType type = special(sql.charAt(start), charAt(start + 1));
+        if (type != null) {
+            return type;
+        }
+        end = start + 1;
+        while (end < sql.length() && !isSpecial(sql.charAt(end))) {
+            end++;
+        }
+        return TokenType.LITERAL;
+    }
+
+    /**
+     * @return the index of the first character of the current token
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return the index after the last character of the current token
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the text of the current token
+     */
+    public String getText() {
+        return sql.substring(start, end);
+    }
+
+    // recognizes the token starting with the given characters, or returns null for literal text
+    private TokenType special(char c, int next) {
+        switch (c) {
+            case '\'':
+                return token(TokenType.QUOTED_TEXT, quotedTextEnd(sql, start));
+            case '"':
+                return token(TokenType.DOUBLE_QUOTED_TEXT, doubleQuotedTextEnd(sql, start));
+            case '\\':
+                return next == EOF ? null : token(TokenType.ESCAPED_TEXT, start + 2);
+            case '/':
+                if (next == '*') {
+                    return token(TokenType.COMMENT, blockCommentEnd(sql, start));
+                }
+                return next == '/' ? token(TokenType.COMMENT, lineCommentEnd(sql, start)) : null;
+            case '-':
+                return next == '-' ? token(TokenType.COMMENT, lineCommentEnd(sql, start)) : null;
+            case '?':
+                if (dialect == Dialect.DEFINE) {
+                    return null;
+                }
+                return next == '?' ? token(TokenType.LITERAL, start + 2) : token(TokenType.POSITIONAL_PARAM, start + 1);
+            case ':':
+                if (dialect != Dialect.COLON) {
+                    return null;
+                }
+                return next == ':' ? token(TokenType.LITERAL, start + 2) : namedParam();
+            case '#':
+                return dialect == Dialect.HASH ? namedParam() : null;
+            case '<':
+                return dialect == Dialect.DEFINE ? define() : null;
+            default:
+                return null;
+        }
+    }
+
+    private TokenType namedParam() {
+        int nameEnd = nameEnd(start + 1, true);
+        return nameEnd == start + 1 ? null : token(TokenType.NAMED_PARAM, nameEnd);
+    }
+
+    private TokenType define() {
+        int nameEnd = nameEnd(start + 1, false);
+        return nameEnd == start + 1 || charAt(nameEnd) != '>' ? null : token(TokenType.DEFINE, nameEnd + 1);
+    }
+
+    private TokenType token(TokenType type, int tokenEnd) {
+        if (tokenEnd < 0) {
+            return null;
+        }
+        end = tokenEnd;
+        return type;
+    }
+
+    // a name is made of java letters and digits; parameter names may also contain '.' and '?.'
+    private int nameEnd(int from, boolean parameter) {
+        int pos = from;
+        while (pos < sql.length()) {
+            char c = sql.charAt(pos);
+            if (Character.isHighSurrogate(c)) {
+                if (!Character.isLowSurrogate((char) charAt(pos + 1))) {
+                    break;
+                }
+                pos += 2;
+            } else if (isNameChar(c) || parameter && c == '.') {
+                pos++;
+            } else if (parameter && c == '?' && charAt(pos + 1) == '.') {
+                pos += 2;
+            } else {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    private boolean isSpecial(char c) {
+        switch (c) {
+            case '\'':
+            case '"':
+            case '\\':
+            case '/':
+            case '-':
+                return true;
+            case '?':
+                return dialect != Dialect.DEFINE;
+            case ':':
+                return dialect == Dialect.COLON;
+            case '#':
+                return dialect == Dialect.HASH;
+            case '<':
+                return dialect == Dialect.DEFINE;
+            default:
+                return false;
+        }
+    }
+
+    private int charAt(int index) {
+        return index < sql.length() ? sql.charAt(index) : EOF;
+    }
+
+    private static boolean isNameChar(char c) {
+        if (c < 0x80) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '$' || c == '_';
+        }
+        return !Character.isHighSurrogate(c);
+    }
+
+    /**
+     * Finds the end of a single quoted literal, in which a quote may be escaped by a backslash.
+     *
+     * @param sql the text
+     * @param start the index of the opening quote
+     * @return the index after the closing quote, or -1 if the literal is not terminated
+     */
+    public static int quotedTextEnd(String sql, int start) {
+        // a quote preceded by a backslash may close the literal or be escaped: the longest literal wins
+        int accepted = -1;
+        for (int pos = start + 1; pos < sql.length(); pos++) {
+            if (sql.charAt(pos) == '\'') {
+                if (sql.charAt(pos - 1) != '\\') {
+                    return pos + 1;
+                }
+                accepted = pos + 1;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @param sql the text
+     * @param start the index of the opening double quote
+     * @return the index after the closing double quote, or -1 if the quoted text is empty or not terminated
+     */
+    public static int doubleQuotedTextEnd(String sql, int start) {
+        int close = sql.indexOf('"', start + 1);
+        return close > start + 1 ? close + 1 : -1;
+    }
+
+    /**
+     * @param sql the text
+     * @param start the index of the opening <code>/*</code>
+     * @return the index after the closing <code>*&#47;</code>, or -1 if the comment is not terminated
+     */
+    public static int blockCommentEnd(String sql, int start) {
+        int close = sql.indexOf("*/", start + 2);
+        return close < 0 ? -1 : close + 2;
+    }
+
+    /**
+     * @param sql the text
+     * @param start the index of the comment start
+     * @return the index of the line break ending the comment, or the length of the text
+     */
+    public static int lineCommentEnd(String sql, int start) {
+        int pos = start;
+        while (pos < sql.length() && sql.charAt(pos) != '\r' && sql.charAt(pos) != '\n') {
+            pos++;
+        }
+        return pos;
+    }
+}
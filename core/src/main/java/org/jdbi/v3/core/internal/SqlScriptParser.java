@@ -13,11 +13,6 @@
  */
 package org.jdbi.v3.core.internal;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.Token;
-import org.jdbi.v3.core.internal.lexer.SqlScriptLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
-
 /**
  * An SQL script parser.
  *
@@ -32,41 +27,53 @@ public class SqlScriptParser {
         this.semicolonHandler = semicolonHandler;
     }
 
-    public String parse(CharStream charStream) {
+    public String parse(String script) {
         StringBuilder sb = new StringBuilder();
-        SqlScriptLexer lexer = new SqlScriptLexer(charStream);
-        lexer.addErrorListener(new ErrorListener());
-        boolean endOfFile = false;
-        while (!endOfFile) {
-            Token t = lexer.nextToken();
-            switch (t.getType()) {
-                case Token.EOF:
-                    endOfFile = true;
-                    break;
-                case SqlScriptLexer.SEMICOLON:
-                    semicolonHandler.handle(t, sb);
-                    break;
-                case SqlScriptLexer.COMMENT:
-                case SqlScriptLexer.MULTI_LINE_COMMENT:
-                    break;
-                case SqlScriptLexer.NEWLINES:
-                    if (sb.length() > 0) {
-                        sb.append(' ');
-                    }
-                    break;
-                case SqlScriptLexer.QUOTED_TEXT:
-                case SqlScriptLexer.LITERAL:
-                case SqlScriptLexer.OTHER:
-                    sb.append(t.getText());
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unrecognizable token " + t);
+        int length = script.length();
+        int pos = 0;
+        while (pos < length) {
+            char c = script.charAt(pos);
+            int commentEnd = commentEnd(script, pos);
+            int quotedTextEnd = c == '\'' ? SqlLexer.quotedTextEnd(script, pos) : -1;
+            if (commentEnd > 0) {
+                pos = commentEnd;
+            } else if (quotedTextEnd > 0) {
+                sb.append(script, pos, quotedTextEnd);
+                pos = quotedTextEnd;
+            } else if (c == '\r' || c == '\n') {
+                while (pos < length && (script.charAt(pos) == '\r' || script.charAt(pos) == '\n')) {
+                    pos++;
+                }
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+            } else {
+                if (c == ';') {
+                    semicolonHandler.handle(";", sb);
+                } else {
+                    sb.append(c);
+                }
+                pos++;
             }
         }
         return sb.toString();
     }
 
+    // returns the end of the comment starting at the given position, or -1 if there is none
+    private static int commentEnd(String script, int pos) {
+        char c = script.charAt(pos);
+        int next = pos + 1 < script.length() ? script.charAt(pos + 1) : -1;
+        if (c == '/' && next == '*') {
+            return SqlLexer.blockCommentEnd(script, pos);
+        }
+        // '#' is no comment in the Postgres #> and #>> JSON operators
+        if (c == '-' && next == '-' || c == '/' && next == '/' || c == '#' && next != '>') {
+            return SqlLexer.lineCommentEnd(script, pos);
+        }
+        return -1;
+    }
+
     public interface TokenHandler {
-        void handle(Token t, StringBuilder sb);
+        void handle(String token, StringBuilder sb);
     }
 }
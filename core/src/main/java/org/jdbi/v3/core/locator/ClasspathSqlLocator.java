@@ -26,7 +26,6 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
-import org.antlr.v4.runtime.CharStreams;
 import org.jdbi.v3.core.internal.SqlScriptParser;
 import org.jdbi.v3.core.internal.exceptions.CheckedFunction;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
@@ -114,9 +113,9 @@ public final class ClasspathSqlLocator {
      */
     public static ClasspathSqlLocator removingComments() {
         final SqlScriptParser commentStripper =
-                new SqlScriptParser((t, sb) -> sb.append(t.getText()));
+                new SqlScriptParser((t, sb) -> sb.append(t));
         return new ClasspathSqlLocator(
-                r -> commentStripper.parse(CharStreams.fromStream(r)));
+                r -> commentStripper.parse(readAsString(r)));
     }
 
     /**
@@ -18,7 +18,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.reflect.internal.SpecializationCache;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for reflective mappers.
@@ -26,6 +31,8 @@ import org.jdbi.v3.core.config.JdbiConfig;
 public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
     private List<ColumnNameMatcher> columnNameMatchers;
     private boolean strictMatching;
+    private boolean generatedAccessors;
+    private ConfigRegistry registry;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -36,11 +43,13 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
                 new CaseInsensitiveColumnNameMatcher(),
                 new SnakeCaseColumnNameMatcher());
         strictMatching = false;
+        generatedAccessors = false;
     }
 
     private ReflectionMappers(ReflectionMappers that) {
         columnNameMatchers = new ArrayList<>(that.columnNameMatchers);
         strictMatching = that.strictMatching;
+        generatedAccessors = that.generatedAccessors;
     }
 
     /**
@@ -82,6 +91,58 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return this;
     }
 
+    /**
+     * @return if bean property accessors are generated classes
+     */
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    /**
+     * Invoke bean property getters and setters through classes generated with
+     * {@link java.lang.invoke.LambdaMetafactory} instead of method handles.
+     * The generated accessors call the property methods directly, which removes
+     * a level of indirection from every mapped column and bound bean property.
+     *
+     * Properties of non-public types, or of types not visible to Jdbi's class loader,
+     * keep using method handles.
+     *
+     * @param generatedAccessors whether to generate bean property accessors
+     * @return this
+     */
+    public ReflectionMappers setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+        return this;
+    }
+
+    /**
+     * Sets the Caffeine cache used by reflective mappers to remember how the columns of a result set
+     * layout match the mapped properties, so repeated executions of the same query skip the matching.
+     * The cache is shared with all configurations copied from this one.
+     *
+     * @param caffeineSpec the cache builder to use to cache column matches
+     * @return this
+     */
+    @Beta
+    public ReflectionMappers setSpecializationCache(Caffeine<Object, Object> caffeineSpec) {
+        registry.get(SpecializationCache.class).setCache(caffeineSpec);
+        return this;
+    }
+
+    /**
+     * @return the statistics of the specialization cache, if the cache records them
+     * @see Caffeine#recordStats()
+     */
+    @Beta
+    public CacheStats specializationCacheStats() {
+        return registry.get(SpecializationCache.class).stats();
+    }
+
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     @Override
     public ReflectionMappers createCopy() {
         return new ReflectionMappers(this);
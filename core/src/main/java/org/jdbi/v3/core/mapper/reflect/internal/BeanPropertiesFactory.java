@@ -42,6 +42,7 @@ import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
 import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory.BeanPojoProperties.PropertiesHolder;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -49,7 +50,9 @@ import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 
 public class BeanPropertiesFactory {
     private static final JdbiCache<Type, PropertiesHolder<?>> PROPERTY_CACHE =
-            JdbiCaches.declare(PropertiesHolder::new);
+            JdbiCaches.declare(type -> new PropertiesHolder<>(type, false));
+    private static final JdbiCache<Type, PropertiesHolder<?>> GENERATED_PROPERTY_CACHE =
+            JdbiCaches.declare(type -> new PropertiesHolder<>(type, true));
 
     private BeanPropertiesFactory() {}
 
@@ -69,6 +72,7 @@ public class BeanPropertiesFactory {
 
     static class BeanPojoProperties<T> extends PojoProperties<T> {
         private final ConfigRegistry config;
+        private PropertiesHolder<?> propertiesHolder;
 
         BeanPojoProperties(Type type, ConfigRegistry config) {
             super(type);
@@ -78,12 +82,12 @@ public class BeanPropertiesFactory {
         @SuppressWarnings({ "unchecked", "rawtypes" })
         @Override
         public Map<String, BeanPojoProperty<T>> getProperties() {
-            return (Map) PROPERTY_CACHE.get(getType(), config).properties;
+            return (Map) holder().properties;
         }
 
         @Override
         public PojoBuilder<T> create() {
-            final PropertiesHolder<?> holder = PROPERTY_CACHE.get(getType(), config);
+            final PropertiesHolder<?> holder = holder();
             final T instance = (T) holder.constructor.get();
             return new PojoBuilder<T>() {
                 @Override
@@ -93,6 +97,15 @@ public class BeanPropertiesFactory {
                         .accept(instance, value);
                 }
 
+                @Override
+                public void set(PojoProperty<T> property, Object value) {
+                    if (property instanceof BeanPojoProperty) {
+                        ((BeanPojoProperty<T>) property).setter().accept(instance, value);
+                    } else {
+                        set(property.getName(), value);
+                    }
+                }
+
                 @Override
                 public T build() {
                     return instance;
@@ -100,6 +113,18 @@ public class BeanPropertiesFactory {
             };
         }
 
+        private PropertiesHolder<?> holder() {
+            // racy but idempotent: every thread resolves the same cached holder
+            PropertiesHolder<?> result = propertiesHolder;
+            if (result == null) {
+                result = config.get(ReflectionMappers.class).isGeneratedAccessors()
+                    ? GENERATED_PROPERTY_CACHE.get(getType(), config)
+                    : PROPERTY_CACHE.get(getType(), config);
+                propertiesHolder = result;
+            }
+            return result;
+        }
+
         static class BeanPojoProperty<T> implements PojoProperty<T> {
             final PropertyDescriptor descriptor;
             final QualifiedType<?> qualifiedType;
@@ -108,16 +133,28 @@ public class BeanPropertiesFactory {
             final BiConsumer<Object, Object> setter;
             final Type actualBeanType;
 
-            BeanPojoProperty(PropertyDescriptor property, Type actualBeanType) {
+            BeanPojoProperty(PropertyDescriptor property, Type actualBeanType, boolean generatedAccessors) {
                 this.descriptor = property;
                 this.actualBeanType = actualBeanType;
                 this.qualifiedType = determineQualifiedType();
-                getter = Optional.ofNullable(descriptor.getReadMethod())
+                getter = generatedAccessors
+                    ? LambdaAccessors.getter(descriptor.getReadMethod()).orElseGet(this::methodHandleGetter)
+                    : methodHandleGetter();
+                setter = generatedAccessors
+                    ? LambdaAccessors.setter(descriptor.getWriteMethod()).orElseGet(this::methodHandleSetter)
+                    : methodHandleSetter();
+            }
+
+            private Function<Object, Object> methodHandleGetter() {
+                return Optional.ofNullable(descriptor.getReadMethod())
                         .map(Unchecked.function(MethodHandles.lookup()::unreflect))
                         .map(mh -> mh.asType(MethodType.methodType(Object.class, Object.class)))
                         .map(mh -> Unchecked.function(mh::invokeExact))
                         .orElse(null);
-                setter = Optional.ofNullable(descriptor.getWriteMethod())
+            }
+
+            private BiConsumer<Object, Object> methodHandleSetter() {
+                return Optional.ofNullable(descriptor.getWriteMethod())
                         .map(Unchecked.function(MethodHandles.lookup()::unreflect))
                         .map(mh -> mh.asType(MethodType.methodType(void.class, Object.class, Object.class)))
                         .map(mh -> Unchecked.biConsumer(mh::invokeExact))
@@ -186,12 +223,12 @@ public class BeanPropertiesFactory {
         static class PropertiesHolder<T> {
             final Supplier<T> constructor;
             final Map<String, BeanPojoProperty<?>> properties;
-            PropertiesHolder(Type type) {
+            PropertiesHolder(Type type, boolean generatedAccessors) {
                 final Class<?> clazz = GenericTypes.getErasedType(type);
                 try {
                     properties = Arrays.stream(Introspector.getBeanInfo(clazz).getPropertyDescriptors())
                             .filter(BeanPropertiesFactory::shouldSeeProperty)
-                            .map(p -> new BeanPojoProperty<>(p, type))
+                            .map(p -> new BeanPojoProperty<>(p, type, generatedAccessors))
                             .collect(Collectors.toMap(PojoProperty::getName, Function.identity()));
                 } catch (IntrospectionException e) {
                     throw new IllegalArgumentException("Failed to inspect bean " + clazz, e);
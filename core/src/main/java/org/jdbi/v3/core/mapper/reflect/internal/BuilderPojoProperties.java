@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 
 import io.leangen.geantyref.GenericTypeReflector;
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -89,7 +90,17 @@ public class BuilderPojoProperties<T, B> extends PojoProperties<T> {
         return new PojoBuilder<T>() {
             @Override
             public void set(String property, Object value) {
-                Unchecked.biConsumer(getProperties().get(property).setter::invokeExact).accept(b, value);
+                set(getProperties().get(property), value);
+            }
+
+            @Override
+            public void set(PojoProperty<T> property, Object value) {
+                // called for every property of every row, so the handle is invoked without a wrapping lambda
+                try {
+                    ((BuilderPojoProperty<T>) property).setter.invokeExact(b, value);
+                } catch (Throwable t) {
+                    throw Sneaky.throwAnyway(t);
+                }
             }
 
             @Override
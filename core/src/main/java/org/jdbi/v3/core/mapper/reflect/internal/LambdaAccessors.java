@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Spins dedicated accessor classes for property getters and setters through {@link LambdaMetafactory}.
+ * The generated classes call the target method directly, so the JIT sees a monomorphic
+ * call site instead of a method handle invocation wrapped in a lambda.
+ * Returns empty whenever the target can not safely be linked from Jdbi's class loader.
+ */
+final class LambdaAccessors {
+    private LambdaAccessors() {
+        throw new UtilityClassException();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Optional<Function<Object, Object>> getter(Method method) {
+        if (method == null || method.getParameterCount() != 0 || !isLinkable(method, method.getReturnType())) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle target = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                target,
+                MethodType.methodType(boxed(method.getReturnType()), method.getDeclaringClass()));
+            return Optional.of((Function<Object, Object>) site.getTarget().invoke());
+        } catch (Throwable t) {
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Optional<BiConsumer<Object, Object>> setter(Method method) {
+        if (method == null || method.getParameterCount() != 1 || !isLinkable(method, method.getParameterTypes()[0])) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle target = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                target,
+                MethodType.methodType(void.class, method.getDeclaringClass(), boxed(method.getParameterTypes()[0])));
+            return Optional.of((BiConsumer<Object, Object>) site.getTarget().invoke());
+        } catch (Throwable t) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isLinkable(Method method, Class<?> valueType) {
+        return !Modifier.isStatic(method.getModifiers())
+            && Modifier.isPublic(method.getModifiers())
+            && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+            && isVisible(method.getDeclaringClass())
+            && isVisible(valueType);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    // the generated class resolves the types it casts to through Jdbi's class loader
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, LambdaAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
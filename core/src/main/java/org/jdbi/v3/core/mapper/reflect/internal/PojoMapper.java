@@ -15,12 +15,14 @@ package org.jdbi.v3.core.mapper.reflect.internal;
 
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -73,28 +75,47 @@ public class PojoMapper<T> implements RowMapper<T> {
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final List<String> columnNames = getColumnNames(rs);
-        final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
-        final List<String> unmatchedColumns = new ArrayList<>(columnNames);
+        final ReflectionMappers reflectionMappers = ctx.getConfig(ReflectionMappers.class);
+        final List<ColumnNameMatcher> columnNameMatchers = reflectionMappers.getColumnNameMatchers();
 
-        RowMapper<T> result = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
-            .orElseThrow(() -> new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type)));
+        // matching columns to properties only depends on the column layout and the pojo types, so it is shared
+        // between executions; the column mappers are still resolved from the current configuration below
+        ColumnMatches matches = ctx.getConfig(SpecializationCache.class).get(
+            new SpecializationKey(this, columnNames, getColumnTypes(rs), columnNameMatchers, ctx.getConfig(PojoTypes.class).getFactories()),
+            key -> matchColumns(ctx, columnNames, columnNameMatchers));
+
+        RowMapper<T> result = bind(ctx, matches.properties);
+        if (result == null) {
+            // the cached match refers to properties the current configuration does not know about
+            matches = matchColumns(ctx, columnNames, columnNameMatchers);
+            result = bind(ctx, matches.properties);
+        }
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
-            && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
+        if (reflectionMappers.isStrictMatching()
+            && anyColumnsStartWithPrefix(matches.unmatchedColumns, prefix, columnNameMatchers)) {
 
             throw new IllegalArgumentException(
-                String.format(UNMATCHED_COLUMNS_STRICT, type, unmatchedColumns));
+                String.format(UNMATCHED_COLUMNS_STRICT, type, matches.unmatchedColumns));
         }
 
         return result;
     }
 
-    private Optional<RowMapper<T>> specialize0(StatementContext ctx,
-                                               List<String> columnNames,
-                                               List<ColumnNameMatcher> columnNameMatchers,
-                                               List<String> unmatchedColumns) {
-        final List<PropertyData<T>> propList = new ArrayList<>();
+    private ColumnMatches matchColumns(StatementContext ctx,
+                                       List<String> columnNames,
+                                       List<ColumnNameMatcher> columnNameMatchers) {
+        final List<String> unmatchedColumns = new ArrayList<>(columnNames);
+        final List<PropertyMatch> properties = match0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+            .orElseThrow(() -> new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type)));
+
+        return new ColumnMatches(properties, unmatchedColumns);
+    }
+
+    private Optional<List<PropertyMatch>> match0(StatementContext ctx,
+                                                 List<String> columnNames,
+                                                 List<ColumnNameMatcher> columnNameMatchers,
+                                                 List<String> unmatchedColumns) {
+        final List<PropertyMatch> matches = new ArrayList<>();
 
         for (PojoProperty<T> property : getProperties(ctx.getConfig()).getProperties().values()) {
             Nested anno = property.getAnnotation(Nested.class).orElse(null);
@@ -107,40 +128,69 @@ public class PojoMapper<T> implements RowMapper<T> {
 
                 findColumnIndex(paramName, columnNames, columnNameMatchers, () -> debugName(property))
                     .ifPresent(index -> {
-                        @SuppressWarnings({ "unchecked", "rawtypes" })
-                        ColumnMapper<?> mapper = ctx.findColumnMapperFor(property.getQualifiedType().mapType(GenericTypes::box))
-                            .orElseGet(() -> (ColumnMapper) defaultColumnMapper(property));
-
-                        propList.add(new PropertyData<>(property, new SingleColumnMapper<>(mapper, index + 1)));
+                        matches.add(new PropertyMatch(property, index, null, null));
                         unmatchedColumns.remove(columnNames.get(index));
                     });
             } else {
                 String nestedPrefix = prefix + anno.value();
                 if (anyColumnsStartWithPrefix(columnNames, nestedPrefix, columnNameMatchers)) {
-                    nestedMappers
-                        .computeIfAbsent(property, d -> createNestedMapper(ctx, d, nestedPrefix))
-                        .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
-                        .ifPresent(nestedMapper ->
-                            propList.add(new PropertyData<>(property, nestedMapper)));
+                    PojoMapper<?> nestedMapper = nestedMappers.computeIfAbsent(property, d -> createNestedMapper(ctx, d, nestedPrefix));
+                    nestedMapper.match0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+                        .ifPresent(nestedMatches ->
+                            matches.add(new PropertyMatch(property, -1, nestedPrefix, nestedMatches)));
                 }
             }
         }
 
-        if (propList.isEmpty() && !columnNames.isEmpty()) {
+        if (matches.isEmpty() && !columnNames.isEmpty()) {
             return Optional.empty();
         }
-        Collections.sort(propList, Comparator.comparing(p -> p.propagateNull ? 1 : 0));
+        Collections.sort(matches, Comparator.comparing(p -> p.propagateNull ? 1 : 0));
+
+        return Optional.of(Collections.unmodifiableList(matches));
+    }
+
+    private RowMapper<T> bind(StatementContext ctx, List<PropertyMatch> matches) {
+        // resolve everything that does not depend on the row up front, so that the
+        // per-row loop is a plain array walk without any map lookups or allocations
+        final PojoProperties<T> properties = getProperties(ctx.getConfig());
+        final Map<String, ? extends PojoProperty<T>> propertiesByName = properties.getProperties();
+        @SuppressWarnings("unchecked")
+        final PropertyData<T>[] props = new PropertyData[matches.size()];
 
-        final Optional<String> nullMarkerColumn =
-                Optional.ofNullable(GenericTypes.getErasedType(type).getAnnotation(PropagateNull.class))
-                    .map(PropagateNull::value);
-        return Optional.of((r, c) -> {
-            if (propagateNull(r, nullMarkerColumn)) {
+        for (int i = 0; i < props.length; i++) {
+            final PropertyMatch match = matches.get(i);
+            final PojoProperty<T> property = propertiesByName.get(match.propertyName);
+            if (property == null) {
                 return null;
             }
-            final PojoBuilder<T> pojo = getProperties(c.getConfig()).create();
 
-            for (PropertyData<T> p : propList) {
+            final RowMapper<?> mapper;
+            if (match.nestedPrefix == null) {
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                ColumnMapper<?> columnMapper = ctx.findColumnMapperFor(property.getQualifiedType().mapType(GenericTypes::box))
+                    .orElseGet(() -> (ColumnMapper) defaultColumnMapper(property));
+                mapper = new SingleColumnMapper<>(columnMapper, match.columnIndex + 1);
+            } else {
+                PojoMapper<?> nestedMapper = nestedMappers.computeIfAbsent(property, d -> createNestedMapper(ctx, d, match.nestedPrefix));
+                mapper = nestedMapper.bind(ctx, match.nestedMatches);
+                if (mapper == null) {
+                    return null;
+                }
+            }
+            props[i] = new PropertyData<>(property, mapper);
+        }
+
+        final PropagateNull propagateNullAnno = GenericTypes.getErasedType(type).getAnnotation(PropagateNull.class);
+        final String nullMarkerColumn = propagateNullAnno == null ? null : propagateNullAnno.value();
+
+        return (r, c) -> {
+            if (nullMarkerColumn != null && propagateNull(r, nullMarkerColumn)) {
+                return null;
+            }
+            final PojoBuilder<T> pojo = properties.create();
+
+            for (PropertyData<T> p : props) {
                 Object value = p.mapper.map(r, ctx);
                 if (p.propagateNull && (value == null || p.isPrimitive && r.wasNull())) {
                     return null;
@@ -152,7 +202,7 @@ public class PojoMapper<T> implements RowMapper<T> {
             }
 
             return pojo.build();
-        });
+        };
     }
 
     @SuppressWarnings("unchecked")
@@ -178,6 +228,11 @@ public class PojoMapper<T> implements RowMapper<T> {
             .orElse(false);
     }
 
+    private static boolean propagateNull(ResultSet r, String nullMarkerColumn) throws SQLException {
+        r.getObject(nullMarkerColumn);
+        return r.wasNull();
+    }
+
     private ColumnMapper<?> defaultColumnMapper(PojoProperty<T> property) {
         if (strictColumnTypeMapping) {
             throw new NoSuchMapperException(String.format(
@@ -186,6 +241,18 @@ public class PojoMapper<T> implements RowMapper<T> {
         return (r, n, c) -> r.getObject(n);
     }
 
+    private static List<Integer> getColumnTypes(ResultSet rs) throws SQLException {
+        final ResultSetMetaData metadata = rs.getMetaData();
+        final int count = metadata.getColumnCount();
+        final List<Integer> columnTypes = new ArrayList<>(count);
+
+        for (int i = 0; i < count; ++i) {
+            columnTypes.add(metadata.getColumnType(i + 1));
+        }
+
+        return columnTypes;
+    }
+
     private String getName(PojoProperty<T> property) {
         return property.getAnnotation(ColumnName.class)
                 .map(ColumnName::value)
@@ -196,6 +263,81 @@ public class PojoMapper<T> implements RowMapper<T> {
         return String.format("%s.%s", type, p.getName());
     }
 
+    private static final class SpecializationKey {
+        private final Class<?> mapperType;
+        private final Type type;
+        private final String prefix;
+        private final List<String> columnNames;
+        private final List<Integer> columnTypes;
+        private final List<ColumnNameMatcher> columnNameMatchers;
+        // other pojo types may describe other properties
+        private final Map<Class<?>, PojoPropertiesFactory> pojoTypes;
+
+        SpecializationKey(PojoMapper<?> mapper,
+                          List<String> columnNames,
+                          List<Integer> columnTypes,
+                          List<ColumnNameMatcher> columnNameMatchers,
+                          Map<Class<?>, PojoPropertiesFactory> pojoTypes) {
+            this.mapperType = mapper.getClass();
+            this.type = mapper.type;
+            this.prefix = mapper.prefix;
+            this.columnNames = columnNames;
+            this.columnTypes = columnTypes;
+            this.columnNameMatchers = columnNameMatchers;
+            this.pojoTypes = pojoTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SpecializationKey)) {
+                return false;
+            }
+            SpecializationKey that = (SpecializationKey) o;
+            return mapperType.equals(that.mapperType)
+                && type.equals(that.type)
+                && prefix.equals(that.prefix)
+                && columnNames.equals(that.columnNames)
+                && columnTypes.equals(that.columnTypes)
+                && columnNameMatchers.equals(that.columnNameMatchers)
+                && pojoTypes.equals(that.pojoTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mapperType, type, prefix, columnNames, columnTypes, columnNameMatchers, pojoTypes);
+        }
+    }
+
+    private static final class ColumnMatches {
+        final List<PropertyMatch> properties;
+        final List<String> unmatchedColumns;
+
+        ColumnMatches(List<PropertyMatch> properties, List<String> unmatchedColumns) {
+            this.properties = properties;
+            this.unmatchedColumns = Collections.unmodifiableList(unmatchedColumns);
+        }
+    }
+
+    private static final class PropertyMatch {
+        final String propertyName;
+        final int columnIndex;
+        // the nested mapper is not kept, since the match is shared with other mappers of the same type
+        final String nestedPrefix;
+        final List<PropertyMatch> nestedMatches;
+        final boolean propagateNull;
+
+        PropertyMatch(PojoProperty<?> property, int columnIndex, String nestedPrefix, List<PropertyMatch> nestedMatches) {
+            this.propertyName = property.getName();
+            this.columnIndex = columnIndex;
+            this.nestedPrefix = nestedPrefix;
+            this.nestedMatches = nestedMatches;
+            this.propagateNull = property.getAnnotation(PropagateNull.class).isPresent();
+        }
+    }
+
     private static class PropertyData<T> {
         PropertyData(PojoProperty<T> property, RowMapper<?> mapper) {
             this.property = property;
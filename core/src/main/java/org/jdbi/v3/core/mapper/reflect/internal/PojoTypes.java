@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.mapper.reflect.internal;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -23,13 +24,14 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericTypes;
 
 public class PojoTypes implements JdbiConfig<PojoTypes> {
-    private final Map<Class<?>, PojoPropertiesFactory> factories = new HashMap<>();
+    // replaced on registration and shared with copies, so that it identifies the pojo types of a configuration
+    private Map<Class<?>, PojoPropertiesFactory> factories = Collections.emptyMap();
     private ConfigRegistry registry;
 
     public PojoTypes() {}
 
     private PojoTypes(PojoTypes other) {
-        factories.putAll(other.factories);
+        factories = other.factories;
     }
 
     @Override
@@ -38,7 +40,9 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
     }
 
     public PojoTypes register(Class<?> key, PojoPropertiesFactory factory) {
-        factories.put(key, factory);
+        Map<Class<?>, PojoPropertiesFactory> registered = new HashMap<>(factories);
+        registered.put(key, factory);
+        factories = Collections.unmodifiableMap(registered);
         return this;
     }
 
@@ -47,6 +51,10 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
                 .map(ppf -> ppf.create(type, registry));
     }
 
+    Map<Class<?>, PojoPropertiesFactory> getFactories() {
+        return factories;
+    }
+
     @Override
     public PojoTypes createCopy() {
         return new PojoTypes(this);
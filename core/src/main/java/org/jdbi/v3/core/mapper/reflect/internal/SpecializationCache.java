@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.jdbi.v3.core.config.JdbiConfig;
+
+/**
+ * Holds the column matches of reflective mappers per result set layout. Configured through
+ * {@link org.jdbi.v3.core.mapper.reflect.ReflectionMappers#setSpecializationCache}; copies share the cache.
+ */
+public class SpecializationCache implements JdbiConfig<SpecializationCache> {
+    private Cache<Object, Object> cache;
+
+    public SpecializationCache() {
+        cache = Caffeine.newBuilder().maximumSize(1_000).recordStats().build();
+    }
+
+    private SpecializationCache(SpecializationCache that) {
+        cache = that.cache;
+    }
+
+    public void setCache(Caffeine<Object, Object> caffeineSpec) {
+        cache = caffeineSpec.build();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @SuppressWarnings("unchecked")
+    <K, V> V get(K key, Function<? super K, ? extends V> computer) {
+        return (V) cache.get(key, k -> computer.apply((K) k));
+    }
+
+    @Override
+    public SpecializationCache createCopy() {
+        return new SpecializationCache(this);
+    }
+}
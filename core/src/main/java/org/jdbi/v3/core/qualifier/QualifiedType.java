@@ -36,6 +36,14 @@ import static org.jdbi.v3.core.internal.CollectionCollectors.toUnmodifiableSet;
  * @param <T> the type that is qualified
  */
 public final class QualifiedType<T> {
+    // unqualified types are immutable, so hand out one shared instance per class
+    private static final ClassValue<QualifiedType<?>> UNQUALIFIED = new ClassValue<QualifiedType<?>>() {
+        @Override
+        protected QualifiedType<?> computeValue(Class<?> clazz) {
+            return new QualifiedType<>(clazz, emptySet());
+        }
+    };
+
     private final Type type;
     private final Set<Annotation> qualifiers;
     private int hashCode;
@@ -46,8 +54,9 @@ public final class QualifiedType<T> {
      * @return the unqualified QualifiedType
      * @see #with(Annotation...) to then qualify your type
      */
+    @SuppressWarnings("unchecked")
     public static <T> QualifiedType<T> of(Class<T> clazz) {
-        return new QualifiedType<>(clazz, emptySet());
+        return (QualifiedType<T>) UNQUALIFIED.get(clazz);
     }
 
     /**
@@ -57,6 +66,9 @@ public final class QualifiedType<T> {
      * @see #with(Annotation...) to then qualify your type
      */
     public static QualifiedType<?> of(Type type) {
+        if (type instanceof Class<?>) {
+            return UNQUALIFIED.get((Class<?>) type);
+        }
         return new QualifiedType<>(type, emptySet());
     }
 
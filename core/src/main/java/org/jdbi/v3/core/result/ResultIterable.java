@@ -17,6 +17,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,6 +29,7 @@ import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
 
@@ -116,6 +118,25 @@ public interface ResultIterable<T> extends Iterable<T> {
         };
     }
 
+    /**
+     * Returns a publisher of the values of this iterable, which fetches rows on the given executor as they are
+     * requested by its subscriber. The statement is executed when the subscriber first requests values, and its
+     * resources are released when all rows have been published, when publishing fails, or when the subscription
+     * is cancelled. Unless a fetch size was set on the statement, which is then left alone, the fetch size of the
+     * result set follows the outstanding demand within 100 to 1000 rows, so a slow subscriber does not cause large
+     * amounts of rows to be buffered.
+     * <p>
+     * Rows are fetched through the handle this iterable was created from, so the handle must stay open until the
+     * subscription terminates by completing, failing or being cancelled.
+     *
+     * @param executor the executor to fetch and publish rows on
+     * @return a publisher of the results, for a single subscriber
+     */
+    @Beta
+    default ResultPublisher<T> publisher(Executor executor) {
+        return new ResultIterablePublisher<>(this, executor);
+    }
+
     @Override
     default void forEach(Consumer<? super T> action) {
         try (ResultIterator<T> iterator = iterator()) {
@@ -0,0 +1,233 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+class ResultIterablePublisher<T> implements ResultPublisher<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(ResultIterablePublisher.class);
+
+    private final ResultIterable<T> iterable;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    ResultIterablePublisher(ResultIterable<T> iterable, Executor executor) {
+        this.iterable = iterable;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("results can only be published to one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new ResultSubscription<>(iterable, executor, subscriber));
+    }
+
+    /**
+     * Requests and cancellations only schedule a drain on the executor; at most one drain runs at a time, so the
+     * iterator, and the JDBC objects behind it, are only ever used by one thread at a time.
+     */
+    private static final class ResultSubscription<T> implements Subscription, Runnable {
+        // bounds for fetch sizes derived from demand, used unless the statement was given a fetch size
+        private static final int MIN_FETCH_SIZE = 100;
+        private static final int MAX_FETCH_SIZE = 1000;
+
+        private final ResultIterable<T> iterable;
+        private final Executor executor;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // only accessed by the draining thread
+        private ResultIterator<T> iterator;
+        private boolean done;
+        private Boolean fetchSizeConfigured;
+        private int fetchSize;
+
+        ResultSubscription(ResultIterable<T> iterable, Executor executor, Subscriber<? super T> subscriber) {
+            this.iterable = iterable;
+            this.executor = executor;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be positive: " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // nothing else may drain while pending is non-zero, so this thread can finish up
+                    cancelled = true;
+                    fail(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                closeCancelled();
+                return;
+            }
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return;
+            }
+            long demand = requested.get();
+            if (demand == 0) {
+                return;
+            }
+            boolean exhausted;
+            try {
+                if (iterator == null) {
+                    iterator = iterable.iterator();
+                }
+                adjustFetchSize(demand);
+                exhausted = emit(demand);
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            // outside the try: a failing onComplete must not be followed by onError
+            if (exhausted) {
+                complete();
+            }
+        }
+
+        // returns true once the results are exhausted and closed
+        private boolean emit(long demand) {
+            long emitted = 0;
+            while (emitted != demand) {
+                if (cancelled) {
+                    closeCancelled();
+                    return false;
+                }
+                if (!iterator.hasNext()) {
+                    finish();
+                    return true;
+                }
+                subscriber.onNext(iterator.next());
+                emitted++;
+            }
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+            return false;
+        }
+
+        // without a configured fetch size, asks the driver to fetch about as many rows as are requested, within
+        // bounds: small requests, like one row at a time from onNext, must not cause a round trip per row
+        private void adjustFetchSize(long demand) {
+            if (!(iterator instanceof ResultSetResultIterator)) {
+                return;
+            }
+            ResultSetResultIterator<T> results = (ResultSetResultIterator<T>) iterator;
+            if (fetchSizeConfigured == null) {
+                fetchSizeConfigured = results.getFetchSize() > 0;
+            }
+            if (fetchSizeConfigured) {
+                return;
+            }
+            int size = (int) Math.max(MIN_FETCH_SIZE, Math.min(demand, MAX_FETCH_SIZE));
+            if (size != fetchSize) {
+                fetchSize = size;
+                results.setFetchSize(size);
+            }
+        }
+
+        private void complete() {
+            try {
+                subscriber.onComplete();
+            } catch (RuntimeException e) {
+                LOG.warn("Subscriber {} failed in onComplete", subscriber, e);
+            }
+        }
+
+        private void fail(Throwable failure) {
+            try {
+                finish();
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+            try {
+                subscriber.onError(failure);
+            } catch (RuntimeException e) {
+                LOG.warn("Subscriber {} failed in onError", subscriber, e);
+            }
+        }
+
+        // the subscriber no longer listens, so a failure to close can only be logged
+        private void closeCancelled() {
+            try {
+                finish();
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to close results after the subscription was cancelled", e);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (iterator != null) {
+                iterator.close();
+            }
+        }
+    }
+}
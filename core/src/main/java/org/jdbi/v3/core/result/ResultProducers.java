@@ -20,17 +20,20 @@ import java.util.function.Supplier;
 
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Commonly used ResultProducer implementations.
  */
 public class ResultProducers implements JdbiConfig<ResultProducers> {
     private boolean allowNoResults = false;
+    private boolean collectResultStatistics = false;
 
     public ResultProducers() {}
 
     private ResultProducers(ResultProducers that) {
         this.allowNoResults = that.allowNoResults;
+        this.collectResultStatistics = that.collectResultStatistics;
     }
 
     /**
@@ -131,4 +134,26 @@ public class ResultProducers implements JdbiConfig<ResultProducers> {
         this.allowNoResults = allowed;
         return this;
     }
+
+    /**
+     * Collect {@link ResultStatistics} while iterating results: the number of rows fetched, and the time spent
+     * fetching and mapping them. The statistics are available from {@link StatementContext#getResultStatistics()},
+     * and passed to {@link org.jdbi.v3.core.statement.SqlLogger#logAfterIteration(StatementContext)} when the
+     * results are closed.
+     * @param collect whether to collect result statistics
+     * @return this
+     */
+    @Beta
+    public ResultProducers collectResultStatistics(boolean collect) {
+        this.collectResultStatistics = collect;
+        return this;
+    }
+
+    /**
+     * @return whether result statistics are collected
+     */
+    @Beta
+    public boolean isCollectingResultStatistics() {
+        return collectResultStatistics;
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Publishes the values of a {@link ResultIterable} to a single subscriber, fetching rows only as the subscriber
+ * requests them. The interfaces follow the Reactive Streams specification, and those of
+ * {@code java.util.concurrent.Flow}, method by method, so adapting to either takes a few lines of delegation.
+ * <p>
+ * The statement is executed when the first values are requested, and its resources are released when all rows
+ * have been published, when publishing fails, or when the subscription is cancelled. The handle the results come
+ * from must stay open until then.
+ *
+ * @param <T> the published element type
+ * @see ResultIterable#publisher(java.util.concurrent.Executor)
+ */
+@Beta
+@FunctionalInterface
+public interface ResultPublisher<T> {
+    /**
+     * Subscribes to the results. A publisher accepts only one subscriber, since results can be traversed once;
+     * further subscribers are signalled an {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+    /**
+     * Receives the published values.
+     *
+     * @param <T> the element type
+     */
+    interface Subscriber<T> {
+        /**
+         * Called once before any other signal.
+         *
+         * @param subscription the subscription to request values from, or to cancel
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called for each value, never more often than requested.
+         *
+         * @param item the value
+         */
+        void onNext(T item);
+
+        /**
+         * Called if executing the statement or fetching or mapping a row fails. No further signals follow.
+         *
+         * @param throwable the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called after the last value. No further signals follow.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Links a subscriber to the results it consumes.
+     */
+    interface Subscription {
+        /**
+         * Requests more values. Requests add up, and {@link Long#MAX_VALUE} requests all remaining values.
+         *
+         * @param n the number of values to request, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops publishing and releases the resources of the statement. Values already in flight may still
+         * be delivered.
+         */
+        void cancel();
+    }
+}
@@ -18,7 +18,9 @@ import java.sql.SQLException;
 import java.util.NoSuchElementException;
 
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementPhase;
 
 import static java.util.Objects.requireNonNull;
 
@@ -26,10 +28,15 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSet results;
     private final RowMapper<T> mapper;
     private final StatementContext context;
+    // only kept while result statistics are collected or statement phases are timed
+    private final ResultStatistics statistics;
+    private final boolean collectingStatistics;
+    private final long openedAt;
 
     private volatile boolean alreadyAdvanced = false;
     private volatile boolean hasNext = false;
     private volatile boolean closed = false;
+    private boolean firstRowFetched = false;
 
     ResultSetResultIterator(ResultSet results,
                             RowMapper<T> mapper,
@@ -37,14 +44,32 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         this.results = requireNonNull(results);
         this.mapper = mapper.specialize(results, context);
         this.context = context;
+        this.collectingStatistics = context.getConfig(ResultProducers.class).isCollectingResultStatistics();
+        this.statistics = collectingStatistics || context.isTimingPhases() ? new ResultStatistics() : null;
+        this.openedAt = statistics == null ? 0 : System.nanoTime();
+        if (collectingStatistics) {
+            context.setResultStatistics(statistics);
+        }
 
         this.context.addCleanable(results::close);
     }
 
     @Override
     public void close() {
+        boolean wasClosed = closed;
         closed = true;
+        if (statistics == null || wasClosed) {
+            context.close();
+            return;
+        }
+        statistics.closed(System.nanoTime() - openedAt);
+        if (statistics.getRowCount() > 0) {
+            context.recordPhaseNanos(StatementPhase.MAPPING, statistics.getMappingNanos());
+        }
         context.close();
+        if (collectingStatistics) {
+            context.getConfig(SqlStatements.class).getSqlLogger().logAfterIteration(context);
+        }
     }
 
     @Override
@@ -80,7 +105,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         }
 
         try {
-            return mapper.map(results, context);
+            return statistics == null ? mapper.map(results, context) : timedMap();
         } catch (SQLException e) {
             throw new ResultSetException("Error thrown mapping result set into return type", e, context);
         } finally {
@@ -101,7 +126,52 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         throw new UnsupportedOperationException("Deleting from a result set iterator is not yet supported");
     }
 
+    // the fetch size of the result set, or 0 if unknown
+    int getFetchSize() {
+        try {
+            return results.getFetchSize();
+        } catch (SQLException ignored) {
+            return 0;
+        }
+    }
+
+    // a hint only: drivers may ignore the fetch size, or refuse to change it while iterating
+    void setFetchSize(int rows) {
+        if (closed) {
+            return;
+        }
+        try {
+            results.setFetchSize(rows);
+        } catch (SQLException ignored) {
+            // keep fetching with the current size
+        }
+    }
+
+    private T timedMap() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return mapper.map(results, context);
+        } finally {
+            statistics.mapped(System.nanoTime() - start);
+        }
+    }
+
     private boolean safeNext() {
+        if (statistics == null) {
+            return advance();
+        }
+        long start = System.nanoTime();
+        boolean advanced = advance();
+        long nanos = System.nanoTime() - start;
+        statistics.fetched(advanced, nanos);
+        if (!firstRowFetched) {
+            firstRowFetched = true;
+            context.recordPhaseNanos(StatementPhase.FIRST_ROW, nanos);
+        }
+        return advanced;
+    }
+
+    private boolean advance() {
         try {
             return results.next();
         } catch (SQLException e) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Figures about the iteration of a result set: how many rows were fetched, how long fetching them from the
+ * {@link java.sql.ResultSet} took compared to mapping them, and how long the results stayed open. Slow
+ * fetching points at the database or the fetch size; slow mapping at the row mappers; a large
+ * {@link #getConsumerNanos() consumer time} at the code consuming the results.
+ *
+ * @see ResultProducers#collectResultStatistics(boolean)
+ * @see org.jdbi.v3.core.statement.StatementContext#getResultStatistics()
+ */
+@Beta
+@SuppressWarnings("PMD.DataClass")
+public final class ResultStatistics {
+    private long rowCount;
+    private long fetchNanos;
+    private long mappingNanos;
+    private long openNanos;
+    private boolean closed;
+
+    ResultStatistics() {}
+
+    void fetched(boolean advanced, long nanos) {
+        if (advanced) {
+            rowCount++;
+        }
+        fetchNanos += nanos;
+    }
+
+    void mapped(long nanos) {
+        mappingNanos += nanos;
+    }
+
+    void closed(long nanos) {
+        openNanos = nanos;
+        closed = true;
+    }
+
+    /**
+     * @return the number of rows fetched from the result set
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the time spent in {@link java.sql.ResultSet#next()}, in nanoseconds
+     */
+    public long getFetchNanos() {
+        return fetchNanos;
+    }
+
+    /**
+     * @return the time spent in the row mapper, in nanoseconds
+     */
+    public long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    /**
+     * @return the time from opening the results until they were closed, in nanoseconds; 0 while they are open
+     */
+    public long getOpenNanos() {
+        return openNanos;
+    }
+
+    /**
+     * @return the time the results were open but neither fetching nor mapping rows, in nanoseconds: mostly
+     * time spent by the code consuming the results; 0 while they are open
+     */
+    public long getConsumerNanos() {
+        return closed ? Math.max(0, openNanos - fetchNanos - mappingNanos) : 0;
+    }
+
+    /**
+     * @return true once the results are closed, after which the statistics do not change anymore
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultStatistics{rows=" + rowCount
+            + ", fetchNanos=" + fetchNanos
+            + ", mappingNanos=" + mappingNanos
+            + ", openNanos=" + openNanos + "}";
+    }
+}
@@ -46,6 +46,10 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
     final StatementContext ctx;
     final ParsedParameters params;
     final Map<QualifiedType<?>, Function<Object, Argument>> argumentFactoryByType = new HashMap<>();
+    // number of parameters to skip, used to bind several rows into one multi-row statement
+    int offset;
+    // binding index of each named parameter slot, kept while later bindings bind the same names
+    private int[] namedSlots;
 
     ArgumentBinder(PreparedStatement stmt, StatementContext ctx, ParsedParameters params) {
         this.stmt = stmt;
@@ -62,16 +66,16 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
     }
 
     void bindPositional(Binding binding) {
-        boolean moreArgumentsProvidedThanDeclared = binding.positionals.size() != params.getParameterCount();
+        boolean moreArgumentsProvidedThanDeclared = binding.positionalCount() != params.getParameterCount();
         if (moreArgumentsProvidedThanDeclared && !ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException("Superfluous positional param at (0 based) position " + params.getParameterCount(), ctx);
         }
         for (int index = 0; index < params.getParameterCount(); index++) {
-            QualifiedType<?> type = typeOf(binding.positionals.get(index));
+            final Object value = boundOrNull(binding.getPositional(index));
             try {
-                argumentFactoryForType(type)
-                    .apply(unwrap(binding.positionals.get(index)))
-                    .apply((int) index + 1, stmt, ctx);
+                argumentFactoryForType(typeOf(value))
+                    .apply(unwrap(value))
+                    .apply(offset + index + 1, stmt, ctx);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException("Exception while binding positional param at (0 based) position " + index, e, ctx);
             }
@@ -81,27 +85,33 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
     void bindNamed(Binding binding) {
         final List<String> paramNames = params.getParameterNames();
         bindNamedCheck(binding, paramNames);
-        for (int i = 0; i < paramNames.size(); i++) { // NOPMD
-            final int index = i;
-            wrapExceptions(() -> paramNames.get(index), x -> {
-                final String name = paramNames.get(index);
-                final Object value = binding.named.get(name);
-                if (value == null && !binding.named.containsKey(name)) {
-                    for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
-                        Optional<Argument> found = naf.find(name, ctx);
-                        if (found.isPresent()) {
-                            found.get().apply(index + 1, stmt, ctx);
-                            return;
-                        }
-                    }
-                    throw missingNamedParameter(name, binding);
-                } else {
-                    argumentFactoryForType(typeOf(value))
-                            .apply(unwrap(value))
-                            .apply(index + 1, stmt, ctx);
+        namedSlots = binding.resolveNamedSlots(params.getSlotNames(), namedSlots);
+        for (int index = 0; index < paramNames.size(); index++) {
+            final String name = paramNames.get(index);
+            try {
+                bindNamed(binding, index, name, binding.getNamedAt(namedSlots[params.getSlot(index)]));
+            } catch (SQLException e) {
+                throw new UnableToCreateStatementException(
+                        String.format("Exception while binding named parameter '%s'", name),
+                        e, ctx);
+            }
+        }
+    }
+
+    private void bindNamed(Binding binding, int index, String name, Object value) throws SQLException {
+        if (!Binding.isBound(value)) {
+            for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
+                Optional<Argument> found = naf.find(name, ctx);
+                if (found.isPresent()) {
+                    found.get().apply(offset + index + 1, stmt, ctx);
+                    return;
                 }
-            }).accept(null);
+            }
+            throw missingNamedParameter(name, binding);
         }
+        argumentFactoryForType(typeOf(value))
+                .apply(unwrap(value))
+                .apply(offset + index + 1, stmt, ctx);
     }
 
     void bindNamedCheck(Binding binding, List<String> paramNames) {
@@ -116,11 +126,20 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
         }
     }
 
+    // PreparedBinding lives in another package and does not inherit the package private accessor
+    private static Object namedValue(Binding binding, String name) {
+        return binding.getNamed(name);
+    }
+
+    private static Object boundOrNull(Object value) {
+        return Binding.isBound(value) ? value : null;
+    }
+
     QualifiedType<?> typeOf(Object value) {
-        return value instanceof TypedValue
-                ? ((TypedValue) value).getType()
-                : ctx.getConfig(Qualifiers.class).qualifiedTypeOf(
-                        Optional.ofNullable(value).<Class<?>>map(Object::getClass).orElse(Object.class));
+        if (value instanceof TypedValue) {
+            return ((TypedValue) value).getType();
+        }
+        return ctx.getConfig(Qualifiers.class).qualifiedTypeOf(value == null ? Object.class : value.getClass());
     }
 
     /**
@@ -184,7 +203,11 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
         final List<String> paramNames;
 
         Prepared(PreparedBatch batch, ParsedParameters params, PreparedBinding example) {
-            super(batch.stmt, batch.getContext(), params);
+            this(batch, batch.stmt, params, example);
+        }
+
+        Prepared(PreparedBatch batch, PreparedStatement stmt, ParsedParameters params, PreparedBinding example) {
+            super(stmt, batch.getContext(), params);
             this.batch = batch;
             paramNames = params.getParameterNames();
             preparedBinder = prepareBinder(example);
@@ -195,8 +218,13 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
             for (int i = 0; i < paramNames.size(); i++) { // NOPMD
                 final int index = i;
                 final String name = paramNames.get(i);
-                final Object value = example.named.get(name);
-                if (value == null && !example.named.containsKey(name)) {
+                final Object value = namedValue(example, name);
+                if (Binding.isBound(value)) {
+                    Function<Object, Argument> binder = argumentFactoryForType(typeOf(value));
+                    innerBinders.add(wrapExceptions(() -> name,
+                            binding -> binder.apply(unwrap(boundOrNull(namedValue(binding, name))))
+                                .apply(offset + index + 1, stmt, ctx)));
+                } else {
                     final Optional<Entry<PrepareKey, Function<Object, Argument>>> preparation =
                         example.prepareKeys.keySet().stream()
                             .map(pk -> new AbstractMap.SimpleImmutableEntry<>(pk, batch.preparedFinders.get(pk)))
@@ -211,7 +239,7 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
                                 () -> name,
                                 binding -> p.getValue()
                                     .apply(binding.prepareKeys.get(p.getKey()))
-                                    .apply(index + 1, stmt, ctx)));
+                                    .apply(offset + index + 1, stmt, ctx)));
                     } else {
                         innerBinders.add(wrapExceptions(() -> name,
                                 binding -> binding.namedArgumentFinder.stream()
@@ -222,13 +250,8 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
                                             .flatMap(naf -> JdbiOptionals.stream(naf.find(name, ctx)))
                                             .findFirst()
                                             .orElseThrow(() -> missingNamedParameter(name, binding)))
-                                    .apply(index + 1, stmt, ctx)));
+                                    .apply(offset + index + 1, stmt, ctx)));
                     }
-                } else {
-                    Function<Object, Argument> binder = argumentFactoryForType(typeOf(value));
-                    innerBinders.add(wrapExceptions(() -> name,
-                            binding -> binder.apply(unwrap(binding.named.get(name)))
-                                .apply(index + 1, stmt, ctx)));
                 }
             }
             return binding -> innerBinders.forEach(b -> b.accept(binding));
@@ -59,6 +59,7 @@ public class Batch extends BaseStatement<Batch> {
         @SuppressWarnings("PMD.CloseResource")
         Statement stmt;
         try {
+            long start = getContext().startPhase();
             try {
                 stmt = getHandle().getStatementBuilder().create(getHandle().getConnection(), getContext());
 
@@ -67,6 +68,7 @@ public class Batch extends BaseStatement<Batch> {
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(e, getContext());
             }
+            getContext().recordPhase(StatementPhase.CREATE, start);
 
             LOG.trace("Execute batch [");
 
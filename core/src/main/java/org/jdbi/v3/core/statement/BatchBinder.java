@@ -0,0 +1,216 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Describes how to bind the rows of a {@link PreparedBatch#addAll(Iterable, BatchBinder)} source:
+ * one accessor per statement parameter, extracting the value of that parameter from a row.
+ * The argument for each parameter is resolved once per batch from the declared type, and rows
+ * are bound straight to the prepared statement without building a binding per row.
+ * <pre>
+ * handle.prepareBatch("insert into people (id, name) values (:id, :name)")
+ *     .addAll(people, BatchBinder.&lt;Person&gt;create()
+ *         .bind("id", int.class, Person::getId)
+ *         .bind("name", String.class, Person::getName))
+ *     .execute();
+ * </pre>
+ *
+ * @param <T> the row type
+ */
+@Beta
+public final class BatchBinder<T> {
+    private final Map<String, Column<T>> named = new LinkedHashMap<>();
+    private final Map<Integer, Column<T>> positional = new HashMap<>();
+
+    private BatchBinder() {}
+
+    /**
+     * @param <T> the row type
+     * @return a binder with no parameters bound yet
+     */
+    public static <T> BatchBinder<T> create() {
+        return new BatchBinder<>();
+    }
+
+    /**
+     * Bind a named parameter to a value extracted from each row.
+     *
+     * @param name the parameter name
+     * @param type the type of the extracted value, used to find the argument factory
+     * @param accessor extracts the value from a row
+     * @param <V> the value type
+     * @return this
+     */
+    public <V> BatchBinder<T> bind(String name, Class<V> type, Function<? super T, ? extends V> accessor) {
+        return bind(name, QualifiedType.of(type), accessor);
+    }
+
+    /**
+     * Bind a named parameter to a value extracted from each row.
+     *
+     * @param name the parameter name
+     * @param type the qualified type of the extracted value, used to find the argument factory
+     * @param accessor extracts the value from a row
+     * @param <V> the value type
+     * @return this
+     */
+    public <V> BatchBinder<T> bind(String name, QualifiedType<V> type, Function<? super T, ? extends V> accessor) {
+        named.put(name, new Column<>(name, type, accessor));
+        return this;
+    }
+
+    /**
+     * Bind a positional parameter to a value extracted from each row.
+     *
+     * @param position the 0-based parameter position
+     * @param type the type of the extracted value, used to find the argument factory
+     * @param accessor extracts the value from a row
+     * @param <V> the value type
+     * @return this
+     */
+    public <V> BatchBinder<T> bind(int position, Class<V> type, Function<? super T, ? extends V> accessor) {
+        return bind(position, QualifiedType.of(type), accessor);
+    }
+
+    /**
+     * Bind a positional parameter to a value extracted from each row.
+     *
+     * @param position the 0-based parameter position
+     * @param type the qualified type of the extracted value, used to find the argument factory
+     * @param accessor extracts the value from a row
+     * @param <V> the value type
+     * @return this
+     */
+    public <V> BatchBinder<T> bind(int position, QualifiedType<V> type, Function<? super T, ? extends V> accessor) {
+        positional.put(position, new Column<>(String.valueOf(position), type, accessor));
+        return this;
+    }
+
+    RowBinder<T> prepare(PreparedBatch batch, ParsedParameters params) {
+        return new RowBinder<>(named, positional, batch, params);
+    }
+
+    static final class RowBinder<T> {
+        private final StatementContext ctx;
+        private final Column<T>[] columns;
+        private final Function<Object, Argument>[] arguments;
+        private final boolean positionalParams;
+        private final RowBinding binding = new RowBinding();
+
+        @SuppressWarnings("unchecked")
+        private RowBinder(Map<String, Column<T>> named, Map<Integer, Column<T>> positional, PreparedBatch batch, ParsedParameters params) {
+            ctx = batch.getContext();
+            boolean unusedAllowed = ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed();
+            int count = params.getParameterCount();
+
+            columns = new Column[count];
+            arguments = new Function[count];
+            positionalParams = params.isPositional();
+
+            if (params.isPositional()) {
+                for (int position : positional.keySet()) {
+                    if (!unusedAllowed && position >= count) {
+                        throw new UnableToCreateStatementException("Superfluous positional param at (0 based) position " + position, ctx);
+                    }
+                }
+                for (int i = 0; i < count; i++) {
+                    columns[i] = positional.get(i);
+                    if (columns[i] == null) {
+                        throw new UnableToCreateStatementException("Missing positional param at (0 based) position " + i, ctx);
+                    }
+                }
+            } else {
+                List<String> names = params.getParameterNames();
+                if (!unusedAllowed && !names.containsAll(named.keySet())) {
+                    List<String> superfluous = named.keySet().stream()
+                        .filter(name -> !names.contains(name))
+                        .collect(Collectors.toList());
+                    throw new UnableToCreateStatementException(String.format(
+                        "Superfluous named parameters provided: '%s'. This check may be disabled by calling "
+                            + "getConfig(SqlStatements.class).setUnusedBindingAllowed(true).", superfluous), ctx);
+                }
+                for (int i = 0; i < count; i++) {
+                    columns[i] = named.get(names.get(i));
+                    if (columns[i] == null) {
+                        throw new UnableToCreateStatementException(String.format("Missing named parameter '%s' in batch binder", names.get(i)), ctx);
+                    }
+                }
+            }
+
+            Map<QualifiedType<?>, Function<Object, Argument>> argumentsByType = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                arguments[i] = argumentsByType.computeIfAbsent(columns[i].type, batch::buildArgument);
+            }
+        }
+
+        void bind(PreparedStatement stmt, T row, int offset) {
+            binding.row = row;
+            ctx.setBinding(binding);
+            for (int i = 0; i < columns.length; i++) {
+                try {
+                    arguments[i].apply(columns[i].accessor.apply(row)).apply(offset + i + 1, stmt, ctx);
+                } catch (SQLException e) {
+                    throw new UnableToCreateStatementException(
+                        String.format("Exception while binding parameter '%s'", columns[i].name), e, ctx);
+                }
+            }
+        }
+
+        // describes the row being bound in error messages and statement logs, reading its values only when printed
+        private final class RowBinding extends PreparedBinding {
+            private T row;
+
+            RowBinding() {
+                super(ctx);
+            }
+
+            @Override
+            public String toString() {
+                String values = Arrays.stream(columns)
+                    .map(column -> column.name + ':' + column.accessor.apply(row))
+                    .collect(Collectors.joining(","));
+                return positionalParams
+                    ? "{positional:{" + values + "}, named:{}, finder:[]}"
+                    : "{positional:{}, named:{" + values + "}, finder:[]}";
+            }
+        }
+    }
+
+    private static final class Column<T> {
+        private final String name;
+        private final QualifiedType<?> type;
+        private final Function<? super T, ?> accessor;
+
+        Column(String name, QualifiedType<?> type, Function<? super T, ?> accessor) {
+            this.name = name;
+            this.type = type;
+            this.accessor = accessor;
+        }
+    }
+}
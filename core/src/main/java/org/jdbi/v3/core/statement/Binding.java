@@ -13,16 +13,22 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
@@ -35,8 +41,29 @@ import static org.jdbi.v3.core.statement.ArgumentBinder.unwrap;
  * Represents the arguments bound to a particular statement.
  */
 public class Binding {
-    protected final Map<Integer, Object> positionals = new HashMap<>();
-    protected final Map<String, Object> named = new HashMap<>();
+    // marks positions and parameter slots without a bound value; a bound null is a value
+    static final Object UNBOUND = new Object();
+    // named values are found by a linear scan until there are more of them than this
+    private static final int INDEX_THRESHOLD = 8;
+
+    private Object[] positionalValues = new Object[0];
+    private int positionalCount;
+    private String[] names = new String[0];
+    private Object[] namedValues = new Object[0];
+    private int namedCount;
+    private Map<String, Integer> namedIndex;
+    /**
+     * @deprecated positional values are no longer kept in a map: this is a live view of them
+     * for subclasses written against earlier versions
+     */
+    @Deprecated
+    protected final Map<Integer, Object> positionals = new PositionalView();
+    /**
+     * @deprecated named values are no longer kept in a map: this is a live view of them
+     * for subclasses written against earlier versions
+     */
+    @Deprecated
+    protected final Map<String, Object> named = new NamedView();
     protected final List<NamedArgumentFinder> namedArgumentFinder = new ArrayList<>();
     private final StatementContext ctx;
 
@@ -68,7 +95,15 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addPositional(int position, Object argument) {
-        positionals.put(position, argument);
+        if (position >= positionalValues.length) {
+            int length = positionalValues.length;
+            positionalValues = Arrays.copyOf(positionalValues, Math.max(position + 1, length * 2));
+            Arrays.fill(positionalValues, length, positionalValues.length, UNBOUND);
+        }
+        if (positionalValues[position] == UNBOUND) {
+            positionalCount++;
+        }
+        positionalValues[position] = argument;
     }
 
     /**
@@ -77,7 +112,22 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addNamed(String name, Object argument) {
-        named.put(name, argument);
+        int index = indexOf(name);
+        if (index >= 0) {
+            namedValues[index] = argument;
+            return;
+        }
+        if (namedCount == names.length) {
+            int length = Math.max(4, namedCount * 2);
+            names = Arrays.copyOf(names, length);
+            namedValues = Arrays.copyOf(namedValues, length);
+        }
+        names[namedCount] = name;
+        namedValues[namedCount] = argument;
+        if (namedIndex != null) {
+            namedIndex.put(name, namedCount);
+        }
+        namedCount++;
     }
 
     /**
@@ -86,7 +136,7 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addPositional(int position, Object argument, QualifiedType<?> type) {
-        positionals.put(position, new TypedValue(type, argument));
+        addPositional(position, new TypedValue(type, argument));
     }
 
     /**
@@ -95,7 +145,7 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addNamed(String name, Object argument, QualifiedType<?> type) {
-        named.put(name, new TypedValue(type, argument));
+        addNamed(name, new TypedValue(type, argument));
     }
 
     /**
@@ -117,8 +167,8 @@ public class Binding {
      */
     @Deprecated
     public Optional<Argument> findForName(String name, StatementContext ctx2) {
-        final Object found = named.get(name);
-        if (found != null || named.containsKey(name)) {
+        final Object found = getNamed(name);
+        if (found != UNBOUND) {
             return Optional.of(new ArgumentBinder<>(null, ctx2, ParsedParameters.NONE).toArgument(found));
         }
 
@@ -133,9 +183,9 @@ public class Binding {
      */
     @Deprecated
     public Collection<String> getNames() {
-        final Set<String> names = new HashSet<>(named.keySet());
-        namedArgumentFinder.forEach(args -> names.addAll(args.getNames()));
-        return Collections.unmodifiableSet(names);
+        final Set<String> allNames = new HashSet<>(Arrays.asList(names).subList(0, namedCount));
+        namedArgumentFinder.forEach(args -> allNames.addAll(args.getNames()));
+        return Collections.unmodifiableSet(allNames);
     }
 
     /**
@@ -147,17 +197,109 @@ public class Binding {
      */
     @Deprecated
     public Optional<Argument> findForPosition(int position) {
-        return Optional.ofNullable(new ArgumentBinder<>(null, ctx, ParsedParameters.NONE).toArgument(positionals.get(position)));
+        Object found = getPositional(position);
+        return Optional.ofNullable(new ArgumentBinder<>(null, ctx, ParsedParameters.NONE).toArgument(found == UNBOUND ? null : found));
+    }
+
+    static boolean isBound(Object value) {
+        return value != UNBOUND;
+    }
+
+    int positionalCount() {
+        return positionalCount;
+    }
+
+    // the value bound at the given position, or UNBOUND
+    Object getPositional(int position) {
+        return position < positionalValues.length ? positionalValues[position] : UNBOUND;
+    }
+
+    // the value bound to the given name, or UNBOUND
+    Object getNamed(String name) {
+        int index = indexOf(name);
+        return index < 0 ? UNBOUND : namedValues[index];
+    }
+
+    /**
+     * Resolves the index of the value bound to each distinct parameter name of a statement, in the
+     * slot order of {@link ParsedParameters#getSlotNames()}; names without a bound value get -1.
+     * Bindings of the same statement usually bind the same names in the same order, so the indexes
+     * resolved for a previous binding are returned as they are when they still match this one.
+     */
+    int[] resolveNamedSlots(List<String> slotNames, int[] previous) {
+        if (previous != null && matchesNamedSlots(slotNames, previous)) {
+            return previous;
+        }
+        int[] slots = new int[slotNames.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = indexOf(slotNames.get(i));
+        }
+        return slots;
+    }
+
+    private boolean matchesNamedSlots(List<String> slotNames, int[] slots) {
+        if (slots.length != slotNames.size()) {
+            return false;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            int index = slots[i];
+            boolean matches = index < 0
+                ? indexOf(slotNames.get(i)) < 0
+                : index < namedCount && names[index].equals(slotNames.get(i));
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the value at an index returned by resolveNamedSlots, or UNBOUND
+    Object getNamedAt(int index) {
+        return index < 0 ? UNBOUND : namedValues[index];
+    }
+
+    private void removePositional(int position) {
+        positionalValues[position] = UNBOUND;
+        positionalCount--;
+    }
+
+    private void removeNamed(int index) {
+        System.arraycopy(names, index + 1, names, index, namedCount - index - 1);
+        System.arraycopy(namedValues, index + 1, namedValues, index, namedCount - index - 1);
+        namedCount--;
+        names[namedCount] = null;
+        namedValues[namedCount] = null;
+        namedIndex = null;
+    }
+
+    private int indexOf(String name) {
+        if (namedIndex != null) {
+            Integer index = namedIndex.get(name);
+            return index == null ? -1 : index;
+        }
+        for (int i = 0; i < namedCount; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        if (namedCount > INDEX_THRESHOLD) {
+            namedIndex = new HashMap<>();
+            for (int i = 0; i < namedCount; i++) {
+                namedIndex.put(names[i], i);
+            }
+        }
+        return -1;
     }
 
     @Override
     public String toString() {
-        String positionalsDescription = positionals.entrySet().stream()
-            .map(x -> x.getKey().toString() + ':' + unwrap(x.getValue()))
+        String positionalsDescription = IntStream.range(0, positionalValues.length)
+            .filter(i -> positionalValues[i] != UNBOUND)
+            .mapToObj(i -> String.valueOf(i) + ':' + unwrap(positionalValues[i]))
             .collect(Collectors.joining(","));
 
-        String namedDescription = named.entrySet().stream()
-            .map(x -> x.getKey() + ':' + unwrap(x.getValue()))
+        String namedDescription = IntStream.range(0, namedCount)
+            .mapToObj(i -> names[i] + ':' + unwrap(namedValues[i]))
             .collect(Collectors.joining(","));
 
         String found = namedArgumentFinder.stream()
@@ -171,8 +313,12 @@ public class Binding {
      * Remove all bindings from this Binding.
      */
     public void clear() {
-        positionals.clear();
-        named.clear();
+        Arrays.fill(positionalValues, UNBOUND);
+        positionalCount = 0;
+        Arrays.fill(names, 0, namedCount, null);
+        Arrays.fill(namedValues, 0, namedCount, null);
+        namedCount = 0;
+        namedIndex = null;
         namedArgumentFinder.clear();
     }
 
@@ -180,6 +326,167 @@ public class Binding {
      * @return true if there are no bindings yet
      */
     public boolean isEmpty() {
-        return positionals.isEmpty() && named.isEmpty() && namedArgumentFinder.isEmpty();
+        return positionalCount == 0 && namedCount == 0 && namedArgumentFinder.isEmpty();
+    }
+
+    private final class PositionalView extends AbstractMap<Integer, Object> {
+        @Override
+        public int size() {
+            return positionalCount;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && (Integer) key >= 0 && isBound(getPositional((Integer) key));
+        }
+
+        @Override
+        public Object get(Object key) {
+            return containsKey(key) ? getPositional((Integer) key) : null;
+        }
+
+        @Override
+        public Object put(Integer key, Object value) {
+            Object old = get(key);
+            addPositional(key, value);
+            return old;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            Object old = getPositional((Integer) key);
+            removePositional((Integer) key);
+            return old;
+        }
+
+        @Override
+        public Set<Entry<Integer, Object>> entrySet() {
+            return new AbstractSet<Entry<Integer, Object>>() {
+                @Override
+                public int size() {
+                    return positionalCount;
+                }
+
+                @Override
+                public Iterator<Entry<Integer, Object>> iterator() {
+                    return new Iterator<Entry<Integer, Object>>() {
+                        private int next = advance(0);
+                        private int last = -1;
+
+                        private int advance(int from) {
+                            int position = from;
+                            while (position < positionalValues.length && !isBound(positionalValues[position])) {
+                                position++;
+                            }
+                            return position;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < positionalValues.length;
+                        }
+
+                        @Override
+                        public Entry<Integer, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            last = next;
+                            next = advance(next + 1);
+                            return new SimpleImmutableEntry<>(last, positionalValues[last]);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last < 0) {
+                                throw new IllegalStateException();
+                            }
+                            removePositional(last);
+                            last = -1;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private final class NamedView extends AbstractMap<String, Object> {
+        @Override
+        public int size() {
+            return namedCount;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && indexOf((String) key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getNamedAt(indexOf((String) key)) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            Object old = get(key);
+            addNamed(key, value);
+            return isBound(old) ? old : null;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            int index = key instanceof String ? indexOf((String) key) : -1;
+            if (index < 0) {
+                return null;
+            }
+            Object old = namedValues[index];
+            removeNamed(index);
+            return old;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public int size() {
+                    return namedCount;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private int next;
+                        private int last = -1;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < namedCount;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            last = next++;
+                            return new SimpleImmutableEntry<>(names[last], namedValues[last]);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last < 0) {
+                                throw new IllegalStateException();
+                            }
+                            removeNamed(last);
+                            next = last;
+                            last = -1;
+                        }
+                    };
+                }
+            };
+        }
     }
 }
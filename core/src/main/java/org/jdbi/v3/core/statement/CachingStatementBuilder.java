@@ -0,0 +1,317 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jdbi.v3.core.CloseException;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A StatementBuilder which keeps a bounded, least recently used cache of prepared statements
+ * for the connection of a single handle. Statements are keyed by their translated SQL, the
+ * result set type and concurrency, and the generated keys settings of the statement context.
+ * <p>
+ * A cached statement is handed out to one SqlStatement at a time; if the same SQL is executed
+ * again while an earlier statement is still open (e.g. a nested query inside a result iteration),
+ * a second statement is prepared. Parameters, pending batches and any fetch size, fetch direction,
+ * max rows, max field size, query timeout, poolable or escape processing setting changed by
+ * statement customizers are reset before a statement is handed out again. All cached statements are closed when the handle is closed.
+ * <p>
+ * Use this with drivers which do not cache prepared statements on their own:
+ * <pre>
+ * jdbi.setStatementBuilderFactory(CachingStatementBuilder.factory(100));
+ * </pre>
+ * The cache statistics of a handle are available through
+ * {@code ((CachingStatementBuilder) handle.getStatementBuilder()).getHitCount()} and friends.
+ */
+@Beta
+public class CachingStatementBuilder extends DefaultStatementBuilder {
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    public static final StatementBuilderFactory FACTORY = factory(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<StatementKey, CachedStatement> idle;
+    private final Map<Statement, CachedStatement> inUse = new IdentityHashMap<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public CachingStatementBuilder() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of idle statements to keep open
+     */
+    public CachingStatementBuilder(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @param maxSize the maximum number of idle statements to keep open per handle
+     * @return a factory creating a new caching statement builder for each handle
+     */
+    public static StatementBuilderFactory factory(int maxSize) {
+        return c -> new CachingStatementBuilder(maxSize);
+    }
+
+    /**
+     * Hand out an idle cached statement matching the SQL and context flags, or prepare a new one.
+     *
+     * @param conn Used to prepare the statement
+     * @param sql  Translated SQL statement
+     * @param ctx  Provides the generated keys and concurrency flags
+     *
+     * @return a PreparedStatement with no parameters set
+     */
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        StatementKey key = new StatementKey(sql, ctx);
+        CachedStatement cached = idle.remove(key);
+        if (cached == null || cached.statement.isClosed()) {
+            missCount++;
+            cached = new CachedStatement(key, super.create(conn, sql, ctx));
+        } else {
+            hitCount++;
+        }
+        inUse.put(cached.statement, cached);
+        return cached.statement;
+    }
+
+    /**
+     * Return a statement created by this builder to the cache. Statements which were not created
+     * through {@link #create(Connection, String, StatementContext)} are closed immediately.
+     *
+     * @param sql  the translated SQL which was prepared
+     * @param stmt the statement
+     *
+     * @throws java.sql.SQLException if anything goes wrong closing the statement
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        if (stmt == null) {
+            return;
+        }
+        CachedStatement cached = inUse.remove(stmt);
+        if (cached == null) {
+            stmt.close();
+            return;
+        }
+        if (stmt.isClosed()) {
+            return;
+        }
+        try {
+            cached.reset();
+        } catch (SQLException e) {
+            stmt.close();
+            throw e;
+        }
+        CachedStatement previous = idle.put(cached.key, cached);
+        if (previous == null) {
+            if (idle.size() > maxSize) {
+                evictEldest();
+            }
+        } else {
+            // an equivalent statement was returned first; keep the most recent one
+            previous.statement.close();
+        }
+    }
+
+    /**
+     * Close all statements held by this builder.
+     */
+    @Override
+    public void close(Connection conn) {
+        List<Statement> statements = new ArrayList<>(idle.size() + inUse.size());
+        idle.values().forEach(cached -> statements.add(cached.statement));
+        statements.addAll(inUse.keySet());
+        idle.clear();
+        inUse.clear();
+
+        SQLException failure = null;
+        for (Statement stmt : statements) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw new CloseException("Unable to close cached statements", failure);
+        }
+    }
+
+    /**
+     * @return the number of statements currently cached and not in use
+     */
+    public int size() {
+        return idle.size();
+    }
+
+    /**
+     * @return the number of times a cached statement was reused
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of times a statement had to be prepared
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of cached statements closed to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evictEldest() throws SQLException {
+        Iterator<CachedStatement> it = idle.values().iterator();
+        CachedStatement eldest = it.next();
+        it.remove();
+        evictionCount++;
+        eldest.statement.close();
+    }
+
+    private static final class CachedStatement {
+        private final StatementKey key;
+        private final PreparedStatement statement;
+        private final int fetchSize;
+        private final int fetchDirection;
+        private final int maxRows;
+        private final long largeMaxRows;
+        private final boolean largeMaxRowsSupported;
+        private final int maxFieldSize;
+        private final int queryTimeout;
+        private final boolean poolable;
+
+        CachedStatement(StatementKey key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.fetchDirection = statement.getFetchDirection();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+            this.queryTimeout = statement.getQueryTimeout();
+            this.poolable = statement.isPoolable();
+            long large = -1;
+            try {
+                large = statement.getLargeMaxRows();
+            } catch (UnsupportedOperationException | SQLFeatureNotSupportedException ignored) {
+                // drivers before JDBC 4.2 only know the int limit, which shares the same setting
+            }
+            this.largeMaxRows = large;
+            this.largeMaxRowsSupported = large >= 0;
+        }
+
+        void reset() throws SQLException {
+            statement.clearParameters();
+            statement.clearBatch();
+            if (statement.getFetchSize() != fetchSize) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (statement.getFetchDirection() != fetchDirection) {
+                statement.setFetchDirection(fetchDirection);
+            }
+            if (largeMaxRowsSupported) {
+                if (statement.getLargeMaxRows() != largeMaxRows) {
+                    statement.setLargeMaxRows(largeMaxRows);
+                }
+            } else if (statement.getMaxRows() != maxRows) {
+                statement.setMaxRows(maxRows);
+            }
+            if (statement.getMaxFieldSize() != maxFieldSize) {
+                statement.setMaxFieldSize(maxFieldSize);
+            }
+            if (statement.getQueryTimeout() != queryTimeout) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+            if (statement.isPoolable() != poolable) {
+                statement.setPoolable(poolable);
+            }
+            // JDBC has no getter for escape processing; it is on by default, so switch it back on
+            statement.setEscapeProcessing(true);
+        }
+    }
+
+    private static final class StatementKey {
+        private final String sql;
+        private final int resultSetType;
+        private final int resultSetConcurrency;
+        private final boolean returningGeneratedKeys;
+        private final String[] generatedKeysColumnNames;
+        private final int hashCode;
+
+        StatementKey(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.resultSetType = ResultSet.TYPE_FORWARD_ONLY;
+            this.resultSetConcurrency = ctx.isConcurrentUpdatable() ? ResultSet.CONCUR_UPDATABLE : ResultSet.CONCUR_READ_ONLY;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            String[] columnNames = ctx.getGeneratedKeysColumnNames();
+            this.generatedKeysColumnNames = returningGeneratedKeys && columnNames != null ? columnNames.clone() : null;
+            this.hashCode = Objects.hash(sql, resultSetType, resultSetConcurrency, returningGeneratedKeys)
+                * 31 + Arrays.hashCode(generatedKeysColumnNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return hashCode == that.hashCode
+                && resultSetType == that.resultSetType
+                && resultSetConcurrency == that.resultSetConcurrency
+                && returningGeneratedKeys == that.returningGeneratedKeys
+                && sql.equals(that.sql)
+                && Arrays.equals(generatedKeysColumnNames, that.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
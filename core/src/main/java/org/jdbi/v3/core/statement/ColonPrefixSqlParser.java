@@ -14,21 +14,9 @@
 package org.jdbi.v3.core.statement;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
-import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.jdbi.v3.core.internal.SqlLexer;
 import org.jdbi.v3.meta.Beta;
 
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.NAMED_PARAM;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.POSITIONAL_PARAM;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.QUOTED_TEXT;
-
 /**
  * SQL parser which recognizes named parameter tokens of the form
  * <code>:tokenName</code>
@@ -53,30 +41,27 @@ public class ColonPrefixSqlParser extends CachingSqlParser {
     @Override
     ParsedSql internalParse(String sql) {
         ParsedSql.Builder parsedSql = ParsedSql.builder();
-        ColonStatementLexer lexer = new ColonStatementLexer(CharStreams.fromString(sql));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
+        SqlLexer lexer = SqlLexer.colonPrefix(sql);
+        for (SqlLexer.TokenType t = lexer.nextToken(); t != SqlLexer.TokenType.EOF; t = lexer.nextToken()) {
+            switch (t) {
                 case COMMENT:
                 case LITERAL:
                 case QUOTED_TEXT:
                 case DOUBLE_QUOTED_TEXT:
-                    parsedSql.append(t.getText());
+                    parsedSql.append(lexer.getText());
                     break;
                 case NAMED_PARAM:
-                    parsedSql.appendNamedParameter(t.getText().substring(1));
+                    parsedSql.appendNamedParameter(sql.substring(lexer.getStart() + 1, lexer.getEnd()));
                     break;
                 case POSITIONAL_PARAM:
                     parsedSql.appendPositionalParameter();
                     break;
                 case ESCAPED_TEXT:
-                    parsedSql.append(t.getText().substring(1));
+                    parsedSql.append(sql.substring(lexer.getStart() + 1, lexer.getEnd()));
                     break;
                 default:
                     break;
             }
-            t = lexer.nextToken();
         }
         return parsedSql.build();
     }
@@ -19,19 +19,8 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
 import org.jdbi.v3.core.config.ConfigRegistry;
-import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
-
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.DEFINE;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.QUOTED_TEXT;
+import org.jdbi.v3.core.internal.SqlLexer;
 
 /**
  * Template engine which replaces angle-bracketed tokens like
@@ -51,20 +40,18 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine.Parsing {
                 preparation.add((ctx, b) -> b.append(bit));
             }
         };
-        DefineStatementLexer lexer = new DefineStatementLexer(CharStreams.fromString(template));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
+        SqlLexer lexer = SqlLexer.definedAttributes(template);
+        for (SqlLexer.TokenType t = lexer.nextToken(); t != SqlLexer.TokenType.EOF; t = lexer.nextToken()) {
+            switch (t) {
             case COMMENT:
             case LITERAL:
             case QUOTED_TEXT:
             case DOUBLE_QUOTED_TEXT:
-                buf.append(t.getText());
+                buf.append(template, lexer.getStart(), lexer.getEnd());
                 break;
             case DEFINE:
                 pushBuf.run();
-                String text = t.getText();
+                String text = lexer.getText();
                 String key = text.substring(1, text.length() - 1);
                 preparation.add((ctx, b) -> {
                     Object value = ctx.getAttribute(key);
@@ -75,12 +62,11 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine.Parsing {
                 });
                 break;
             case ESCAPED_TEXT:
-                buf.append(t.getText().substring(1));
+                buf.append(template, lexer.getStart() + 1, lexer.getEnd());
                 break;
             default:
                 break;
             }
-            t = lexer.nextToken();
         }
         pushBuf.run();
         return Optional.of(ctx -> {
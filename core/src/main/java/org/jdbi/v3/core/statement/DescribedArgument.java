@@ -31,11 +31,11 @@ class DescribedArgument implements Argument {
                 return false;
             });
     private final Argument arg;
-    private final String description;
+    private final Object value;
 
     DescribedArgument(Argument arg, Object value) {
         this.arg = arg;
-        this.description = Objects.toString(ArgumentBinder.unwrap(value));
+        this.value = ArgumentBinder.unwrap(value);
     }
 
     @Override
@@ -45,7 +45,8 @@ class DescribedArgument implements Argument {
 
     @Override
     public String toString() {
-        return description;
+        // only describe the value when asked, most arguments are never logged
+        return Objects.toString(value);
     }
 
     public static Argument wrap(StatementContext ctx, Argument arg, Object value) {
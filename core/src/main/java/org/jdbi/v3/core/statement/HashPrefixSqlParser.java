@@ -14,21 +14,9 @@
 package org.jdbi.v3.core.statement;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
-import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.jdbi.v3.core.internal.SqlLexer;
 import org.jdbi.v3.meta.Beta;
 
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.NAMED_PARAM;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.POSITIONAL_PARAM;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.QUOTED_TEXT;
-
 /**
  * SQL parser which recognizes named parameter tokens of the form
  * <code>#tokenName</code>.
@@ -50,30 +38,27 @@ public class HashPrefixSqlParser extends CachingSqlParser {
     @Override
     ParsedSql internalParse(String sql) {
         ParsedSql.Builder parsedSql = ParsedSql.builder();
-        HashStatementLexer lexer = new HashStatementLexer(CharStreams.fromString(sql));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
+        SqlLexer lexer = SqlLexer.hashPrefix(sql);
+        for (SqlLexer.TokenType t = lexer.nextToken(); t != SqlLexer.TokenType.EOF; t = lexer.nextToken()) {
+            switch (t) {
                 case COMMENT:
                 case LITERAL:
                 case QUOTED_TEXT:
                 case DOUBLE_QUOTED_TEXT:
-                    parsedSql.append(t.getText());
+                    parsedSql.append(lexer.getText());
                     break;
                 case NAMED_PARAM:
-                    parsedSql.appendNamedParameter(t.getText().substring(1));
+                    parsedSql.appendNamedParameter(sql.substring(lexer.getStart() + 1, lexer.getEnd()));
                     break;
                 case POSITIONAL_PARAM:
                     parsedSql.appendPositionalParameter();
                     break;
                 case ESCAPED_TEXT:
-                    parsedSql.append(t.getText().substring(1));
+                    parsedSql.append(sql.substring(lexer.getStart() + 1, lexer.getEnd()));
                     break;
                 default:
                     break;
             }
-            t = lexer.nextToken();
         }
         return parsedSql.build();
     }
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Arrays;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Decides how many parameters {@link SqlStatement#bindList} expands a list into. Rounding the number of
+ * parameters up to a few bucket sizes makes lists of different sizes render the same SQL, which keeps the
+ * template and parser caches, and the prepared statement caches of driver and database, from filling up
+ * with one statement per list size. The extra parameters are filled according to the configured
+ * {@link Padding}.
+ * <p>
+ * Only lists used as {@code IN} lists may be padded: enable bucketing only for statements which do not
+ * bind lists into {@code VALUES} tuples or other places where the number of elements matters.
+ *
+ * @see SqlStatements#setListBucketing(ListBucketing)
+ */
+@Beta
+@FunctionalInterface
+public interface ListBucketing {
+    /**
+     * @param size the size of the bound list, at least 1
+     * @return the number of parameters to expand the list into, at least {@code size}
+     */
+    int bucketSize(int size);
+
+    /**
+     * @return bucketing which binds exactly one parameter per list element, the default
+     */
+    static ListBucketing none() {
+        return size -> size;
+    }
+
+    /**
+     * @return bucketing which rounds up to the next power of two: 1, 2, 4, 8, ...
+     */
+    static ListBucketing powersOfTwo() {
+        return size -> size <= 1 || size > 1 << 30 ? size : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Bucketing which rounds up to the smallest of the given sizes which is large enough, and to a
+     * multiple of the largest size for lists larger than that.
+     *
+     * @param sizes the bucket sizes, all positive
+     * @return bucketing to the given sizes
+     */
+    static ListBucketing ladder(int... sizes) {
+        if (sizes.length == 0) {
+            throw new IllegalArgumentException("ladder needs at least one bucket size");
+        }
+        int[] steps = sizes.clone();
+        Arrays.sort(steps);
+        if (steps[0] < 1) {
+            throw new IllegalArgumentException("bucket sizes must be positive: " + Arrays.toString(sizes));
+        }
+        int largest = steps[steps.length - 1];
+        return size -> {
+            int index = Arrays.binarySearch(steps, size);
+            if (index >= 0) {
+                return size;
+            }
+            int insertion = -index - 1;
+            if (insertion < steps.length) {
+                return steps[insertion];
+            }
+            int multiple = (size + largest - 1) / largest * largest;
+            return multiple < size ? size : multiple;
+        };
+    }
+
+    /**
+     * What to bind to the parameters which pad a list to its bucket size.
+     */
+    enum Padding {
+        /**
+         * Repeat the last element of the list. Keeps the result of both {@code IN} and {@code NOT IN} unchanged.
+         */
+        REPEAT_LAST,
+        /**
+         * Bind {@code null}. Keeps the result of {@code IN} unchanged, but makes {@code NOT IN} match no rows.
+         */
+        NULL
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Rewrites a translated single row {@code INSERT ... VALUES (?, ?)} statement into a statement
+ * inserting several rows at once: {@code INSERT ... VALUES (?, ?), (?, ?), ...}. Only statements
+ * whose parameters all appear inside a single {@code VALUES} tuple are rewritten. Upserts are left
+ * alone, since one statement could then update the same row twice, and so are {@code RETURNING}
+ * statements, whose results would no longer match the rows of the batch, and statements containing
+ * backslashes, which escape quotes in some dialects but not in others.
+ */
+final class MultiRowInsert {
+    private final String prefix;
+    private final String tuple;
+    private final String suffix;
+    private final int parameterCount;
+
+    private MultiRowInsert(String prefix, String tuple, String suffix, int parameterCount) {
+        this.prefix = prefix;
+        this.tuple = tuple;
+        this.suffix = suffix;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * @param sql the translated SQL, with {@code ?} placeholders
+     * @param parameterCount the number of parameters of the statement
+     * @return the rewriter, or empty if the statement is not a single row insert
+     */
+    static Optional<MultiRowInsert> parse(String sql, int parameterCount) {
+        if (parameterCount == 0 || sql.indexOf('\\') >= 0) {
+            return Optional.empty();
+        }
+        Scanner scanner = new Scanner(sql);
+        if (!"insert".equals(scanner.nextWord())) {
+            return Optional.empty();
+        }
+        for (String word = scanner.nextWord(); word != null; word = scanner.nextWord()) {
+            if ("values".equals(word)) {
+                return scanner.tuple(parameterCount)
+                    .map(end -> new MultiRowInsert(
+                        sql.substring(0, scanner.tupleStart),
+                        sql.substring(scanner.tupleStart, end),
+                        sql.substring(end),
+                        parameterCount));
+            }
+        }
+        return Optional.empty();
+    }
+
+    int getParameterCount() {
+        return parameterCount;
+    }
+
+    String rewrite(int rows) {
+        StringBuilder sb = new StringBuilder(prefix.length() + suffix.length() + (tuple.length() + 2) * rows);
+        sb.append(prefix).append(tuple);
+        for (int i = 1; i < rows; i++) {
+            sb.append(", ").append(tuple);
+        }
+        return sb.append(suffix).toString();
+    }
+
+    private static final class Scanner {
+        private final String sql;
+        private int pos;
+        private int parameters;
+        private int tupleStart;
+
+        Scanner(String sql) {
+            this.sql = sql;
+        }
+
+        // returns the next bare word outside of literals and comments, lower cased
+        String nextWord() {
+            while (pos < sql.length()) {
+                char c = sql.charAt(pos);
+                if (Character.isJavaIdentifierStart(c)) {
+                    int start = pos;
+                    while (pos < sql.length() && Character.isJavaIdentifierPart(sql.charAt(pos))) {
+                        pos++;
+                    }
+                    return sql.substring(start, pos).toLowerCase(Locale.ROOT);
+                }
+                skip();
+            }
+            return null;
+        }
+
+        // finds the parenthesized tuple following the current position and returns the index after it,
+        // as long as it holds every parameter and is not followed by another tuple, an update or a returning clause
+        Optional<Integer> tuple(int parameterCount) {
+            while (pos < sql.length() && Character.isWhitespace(sql.charAt(pos))) {
+                pos++;
+            }
+            if (pos >= sql.length() || sql.charAt(pos) != '(' || parameters > 0) {
+                return Optional.empty();
+            }
+            tupleStart = pos;
+            int depth = 0;
+            do {
+                char c = sql.charAt(pos);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                }
+                skip();
+            } while (depth > 0 && pos < sql.length());
+
+            if (depth != 0 || parameters != parameterCount) {
+                return Optional.empty();
+            }
+            int end = pos;
+            while (pos < sql.length()) {
+                char c = sql.charAt(pos);
+                if (c == ',') {
+                    return Optional.empty();
+                }
+                if (Character.isJavaIdentifierStart(c)) {
+                    // ON CONFLICT ... DO UPDATE, ON DUPLICATE KEY UPDATE, RETURNING ...
+                    String word = nextWord();
+                    if ("update".equals(word) || "returning".equals(word)) {
+                        return Optional.empty();
+                    }
+                } else {
+                    skip();
+                }
+            }
+            return parameters == parameterCount ? Optional.of(end) : Optional.empty();
+        }
+
+        // advances over one character, literal or comment, counting parameters
+        private void skip() {
+            char c = sql.charAt(pos);
+            if (c == '\'' || c == '"' || c == '`') {
+                int close = pos + 1;
+                while (close < sql.length() && sql.charAt(close) != c) {
+                    close++;
+                }
+                pos = close + 1;
+            } else if (sql.startsWith("--", pos)) {
+                int close = sql.indexOf('\n', pos);
+                pos = close < 0 ? sql.length() : close + 1;
+            } else if (sql.startsWith("/*", pos)) {
+                int close = sql.indexOf("*/", pos + 2);
+                pos = close < 0 ? sql.length() : close + 2;
+            } else {
+                if (c == '?') {
+                    parameters++;
+                }
+                pos++;
+            }
+        }
+    }
+}
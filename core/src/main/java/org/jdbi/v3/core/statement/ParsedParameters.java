@@ -15,7 +15,9 @@ package org.jdbi.v3.core.statement;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static java.util.Collections.unmodifiableList;
@@ -27,10 +29,31 @@ public class ParsedParameters {
     static final ParsedParameters NONE = new ParsedParameters(true, Collections.emptyList());
     private final boolean positional;
     private final List<String> parameterNames;
+    // distinct parameter names, and the index into them of each parameter; resolved once per parsed statement
+    private final List<String> slotNames;
+    private final int[] slots;
 
     ParsedParameters(boolean positional, List<String> parameterNames) {
         this.positional = positional;
         this.parameterNames = unmodifiableList(new ArrayList<>(parameterNames));
+        this.slots = new int[parameterNames.size()];
+        if (positional) {
+            this.slotNames = Collections.emptyList();
+            return;
+        }
+        Map<String, Integer> slotsByName = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            String name = this.parameterNames.get(i);
+            Integer slot = slotsByName.get(name);
+            if (slot == null) {
+                slot = distinct.size();
+                slotsByName.put(name, slot);
+                distinct.add(name);
+            }
+            slots[i] = slot;
+        }
+        this.slotNames = unmodifiableList(distinct);
     }
 
     /**
@@ -55,6 +78,14 @@ public class ParsedParameters {
         return parameterNames;
     }
 
+    List<String> getSlotNames() {
+        return slotNames;
+    }
+
+    int getSlot(int parameterIndex) {
+        return slots[parameterIndex];
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
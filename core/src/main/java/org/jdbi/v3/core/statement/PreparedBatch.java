@@ -17,6 +17,7 @@ import java.lang.reflect.Type;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -41,6 +42,7 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -55,10 +57,28 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  * {@link PreparedBatch#add()} to add the current binding as a batch and then clear it.
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
- * or {@link PreparedBatch#add(Object...)}.
+ * or {@link PreparedBatch#add(Object...)}. Large numbers of rows can be streamed into
+ * the statement without materializing a binding per row with
+ * {@link PreparedBatch#addAll(Iterable, BatchBinder)}.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
+    /**
+     * Rows of {@link #addAll(Iterable, BatchBinder)} sources are sent to the database in
+     * chunks of this size when the batch is executed through {@link #execute()}, unless
+     * a {@link #chunkSize(int) chunk size} is set.
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 1_000;
+
+    /**
+     * The parameter limit used by {@link #multiRowInserts()}, the lowest limit among common databases.
+     */
+    public static final int DEFAULT_MULTI_ROW_PARAMETER_LIMIT = 999;
+
+    private int chunkSize;
+    private int multiRowParameterLimit;
+
     private final List<PreparedBinding> bindings = new ArrayList<>();
+    private final List<RowSource<?>> sources = new ArrayList<>();
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
 
     public PreparedBatch(Handle handle, String sql) {
@@ -105,7 +125,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      */
     public int[] execute() {
         try {
-            return internalBatchExecute().updateCounts;
+            return internalBatchExecute(true).updateCounts;
         } finally {
             getContext().close();
         }
@@ -154,7 +174,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      */
     public <R> R execute(ResultProducer<R> producer) {
         try {
-            return producer.produce(() -> internalBatchExecute().stmt, getContext());
+            return producer.produce(() -> internalBatchExecute(false).stmt, getContext());
         } catch (SQLException e) {
             try {
                 close();
@@ -165,7 +185,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         }
     }
 
-    private ExecutedBatch internalBatchExecute() {
+    private ExecutedBatch internalBatchExecute(boolean flush) {
         if (!getBinding().isEmpty()) {
             add();
         }
@@ -179,6 +199,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         ParsedParameters parsedParameters = parsedSql.getParameters();
 
         try {
+            long start = ctx.startPhase();
             try {
                 StatementBuilder statementBuilder = getHandle().getStatementBuilder();
                 @SuppressWarnings("PMD.CloseResource")
@@ -190,40 +211,118 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(e, ctx);
             }
+            ctx.recordPhase(StatementPhase.CREATE, start);
 
-            if (bindings.isEmpty()) {
+            if (bindings.isEmpty() && sources.isEmpty()) {
                 return new ExecutedBatch(stmt, new int[0]);
             }
 
             beforeBinding();
 
+            BatchExecution execution = createExecution(flush, sql, parsedParameters);
             try {
-                ArgumentBinder<?> binder = new ArgumentBinder.Prepared(this, parsedParameters, bindings.get(0));
-                for (Binding binding : bindings) {
-                    ctx.setBinding(binding);
-                    binder.bind(binding);
-                    stmt.addBatch();
+                int sourceIndex = 0;
+                for (int i = 0; i <= bindings.size(); i++) {
+                    while (sourceIndex < sources.size() && sources.get(sourceIndex).position == i) {
+                        sources.get(sourceIndex++).addTo(execution, parsedParameters);
+                    }
+                    if (i < bindings.size()) {
+                        execution.add(bindings.get(i));
+                    }
                 }
             } catch (SQLException e) {
                 throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
             }
 
-            beforeExecution();
-
-            try {
-                final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            execution.finish();
 
-                afterExecution();
+            afterExecution();
 
-                ctx.setBinding(new PreparedBinding(ctx));
+            ctx.setBinding(new PreparedBinding(ctx));
 
-                return new ExecutedBatch(stmt, rs);
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
-            }
+            return new ExecutedBatch(stmt, execution.toArray());
         } finally {
             bindings.clear();
+            sources.clear();
+        }
+    }
+
+    private BatchExecution createExecution(boolean flush, String sql, ParsedParameters parsedParameters) {
+        ArgumentBinder<?> binder = bindings.isEmpty() ? null : new ArgumentBinder.Prepared(this, parsedParameters, bindings.get(0));
+        if (!flush) {
+            return new BatchExecution(Integer.MAX_VALUE, binder);
+        }
+        int flushSize = chunkSize > 0 ? chunkSize : DEFAULT_FLUSH_SIZE;
+        if (multiRowParameterLimit > 0) {
+            Optional<MultiRowInsert> insert = MultiRowInsert.parse(sql, parsedParameters.getParameterCount());
+            int rows = insert.map(i -> Math.min(multiRowParameterLimit / i.getParameterCount(), flushSize)).orElse(0);
+            if (rows > 1) {
+                return new MultiRowExecution(flushSize, binder, insert.get(), rows, parsedParameters);
+            }
+        }
+        return new BatchExecution(flushSize, binder);
+    }
+
+    /**
+     * Send the batch to the database in chunks of at most {@code size} rows when it is executed
+     * through {@link #execute()} or {@link #executeAndGetModCount()}. All chunks are executed on the
+     * same prepared statement, and the update counts of all chunks are returned together, in order.
+     * This keeps the memory the driver needs for a single {@code executeBatch} call bounded for
+     * large loads.
+     * <p>
+     * Methods returning generated keys or results always execute the whole batch at once, since
+     * JDBC only reports the generated keys of the last {@code executeBatch} call.
+     *
+     * @param size the maximum number of rows per chunk
+     * @return this
+     */
+    @Beta
+    public PreparedBatch chunkSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Batch chunk size must be > 0, was " + size);
+        }
+        this.chunkSize = size;
+        return this;
+    }
+
+    /**
+     * Insert several rows per statement when this batch is executed through {@link #execute()} or
+     * {@link #executeAndGetModCount()}, binding at most {@value #DEFAULT_MULTI_ROW_PARAMETER_LIMIT}
+     * parameters per statement. See {@link #multiRowInserts(int)}.
+     *
+     * @return this
+     */
+    @Beta
+    public PreparedBatch multiRowInserts() {
+        return multiRowInserts(DEFAULT_MULTI_ROW_PARAMETER_LIMIT);
+    }
+
+    /**
+     * Insert several rows per statement when this batch is executed through {@link #execute()} or
+     * {@link #executeAndGetModCount()}. A single row {@code INSERT ... VALUES (:a, :b)} is rewritten to
+     * {@code INSERT ... VALUES (?, ?), (?, ?), ...} with as many rows as fit in {@code maxParameters}
+     * parameters, and the rewritten statements are sent as a JDBC batch. Rows which do not fill a
+     * whole statement are executed on the original statement. Many drivers send each row of a JDBC
+     * batch as a separate insert, so this can speed up large inserts considerably.
+     * <p>
+     * Statements which are not a single row insert with all parameters inside the {@code VALUES}
+     * tuple, such as {@code INSERT ... SELECT}, inserts with a {@code RETURNING} clause listing several
+     * columns, upserts ({@code ON CONFLICT ... DO UPDATE}, {@code ON DUPLICATE KEY UPDATE}) and
+     * statements containing backslashes, are executed unchanged. Since the database
+     * only reports how many rows a multi row insert touched, each row gets an update count of 1 if
+     * the statement inserted all of its rows, and {@link java.sql.Statement#SUCCESS_NO_INFO}
+     * otherwise.
+     *
+     * @param maxParameters the maximum number of parameters the driver accepts in one statement
+     * @return this
+     */
+    @Beta
+    public PreparedBatch multiRowInserts(int maxParameters) {
+        if (maxParameters <= 0) {
+            throw new IllegalArgumentException("Parameter limit must be > 0, was " + maxParameters);
         }
+        this.multiRowParameterLimit = maxParameters;
+        return this;
     }
 
     /**
@@ -269,12 +368,266 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     /**
-     * @return the number of bindings which are in this batch
+     * Add every row of {@code rows} to the batch. The rows are not materialized: when the batch
+     * executes, each row is bound directly to the prepared statement through {@code binder} and
+     * added to the JDBC batch, without keeping a binding per row. {@link #execute()} sends the
+     * batch to the database every {@value #DEFAULT_FLUSH_SIZE} rows, or every {@link #chunkSize(int)}
+     * rows if set, so a large source uses constant memory; the other execute methods send all rows
+     * in a single JDBC batch, so that generated keys and results cover the whole batch.
+     * <p>
+     * The iterable is consumed once, when the batch executes. Rows are executed in the order they
+     * were added relative to other {@code add} calls.
+     *
+     * @param rows the rows to add
+     * @param binder binds each row to the statement parameters
+     * @param <T> the row type
+     * @return this
+     */
+    @Beta
+    public <T> PreparedBatch addAll(Iterable<T> rows, BatchBinder<T> binder) {
+        if (!getBinding().isEmpty()) {
+            add();
+        }
+        sources.add(new RowSource<>(bindings.size(), rows, binder));
+        return this;
+    }
+
+    /**
+     * @return the number of bindings which are in this batch, not counting rows added through {@link #addAll(Iterable, BatchBinder)}
      */
     public int size() {
         return bindings.size();
     }
 
+    private final class RowSource<T> {
+        final int position;
+        final Iterable<T> rows;
+        final BatchBinder<T> binder;
+
+        RowSource(int position, Iterable<T> rows, BatchBinder<T> binder) {
+            this.position = position;
+            this.rows = rows;
+            this.binder = binder;
+        }
+
+        void addTo(BatchExecution execution, ParsedParameters params) throws SQLException {
+            BatchBinder.RowBinder<T> rowBinder = binder.prepare(PreparedBatch.this, params);
+            for (T row : rows) {
+                execution.add(rowBinder, row);
+            }
+        }
+    }
+
+    private class BatchExecution {
+        final int flushSize;
+        final ArgumentBinder<?> binder;
+        int pending;
+        boolean started;
+        int[] updateCounts = new int[0];
+        int size;
+
+        BatchExecution(int flushSize, ArgumentBinder<?> binder) {
+            this.flushSize = flushSize;
+            this.binder = binder;
+        }
+
+        void add(PreparedBinding binding) throws SQLException {
+            getContext().setBinding(binding);
+            binder.bind(binding);
+            stmt.addBatch();
+            added(chunkSize > 0);
+        }
+
+        <T> void add(BatchBinder.RowBinder<T> rowBinder, T row) throws SQLException {
+            rowBinder.bind(stmt, row, 0);
+            stmt.addBatch();
+            added(true);
+        }
+
+        private void added(boolean chunked) {
+            pending++;
+            if (chunked && pending >= flushSize) {
+                execute();
+            }
+        }
+
+        void finish() {
+            if (!started || pending > 0) {
+                execute();
+            }
+        }
+
+        void execute() {
+            if (!started) {
+                beforeExecution();
+                started = true;
+            }
+            append(executeBatch(stmt));
+            pending = 0;
+        }
+
+        int[] executeBatch(PreparedStatement batchStmt) {
+            final StatementContext ctx = getContext();
+            try {
+                return SqlLoggerUtil.wrap(batchStmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+            }
+        }
+
+        void append(int[] counts) {
+            ensureCapacity(size + counts.length);
+            System.arraycopy(counts, 0, updateCounts, size, counts.length);
+            size += counts.length;
+        }
+
+        void append(int count, int times) {
+            ensureCapacity(size + times);
+            Arrays.fill(updateCounts, size, size + times, count);
+            size += times;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > updateCounts.length) {
+                updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, capacity));
+            }
+        }
+
+        int[] toArray() {
+            return size == updateCounts.length ? updateCounts : Arrays.copyOf(updateCounts, size);
+        }
+    }
+
+    private final class MultiRowExecution extends BatchExecution {
+        final MultiRowInsert insert;
+        final ParsedParameters params;
+        final int rowsPerStatement;
+        final int parametersPerRow;
+        final int statementsPerFlush;
+        final Object[] bufferedRows;
+        final BatchBinder.RowBinder<?>[] bufferedBinders;
+        PreparedStatement multiRowStmt;
+        ArgumentBinder<?> multiRowBinder;
+        boolean multiRowStarted;
+        int buffered;
+        int pendingStatements;
+
+        MultiRowExecution(int flushSize, ArgumentBinder<?> binder, MultiRowInsert insert, int rowsPerStatement, ParsedParameters params) {
+            super(flushSize, binder);
+            this.insert = insert;
+            this.params = params;
+            this.rowsPerStatement = rowsPerStatement;
+            this.parametersPerRow = insert.getParameterCount();
+            this.statementsPerFlush = Math.max(1, flushSize / rowsPerStatement);
+            this.bufferedRows = new Object[rowsPerStatement];
+            this.bufferedBinders = new BatchBinder.RowBinder<?>[rowsPerStatement];
+        }
+
+        // prepared once the first full group of rows is buffered, so batches smaller than a group never create it
+        private PreparedStatement multiRowStatement() {
+            if (multiRowStmt != null) {
+                return multiRowStmt;
+            }
+            final StatementContext ctx = getContext();
+            String multiRowSql = insert.rewrite(rowsPerStatement);
+            try {
+                StatementBuilder statementBuilder = getHandle().getStatementBuilder();
+                @SuppressWarnings("PMD.CloseResource")
+                Connection connection = getHandle().getConnection();
+                PreparedStatement created = statementBuilder.create(connection, multiRowSql, ctx);
+                addCleanable(() -> statementBuilder.close(connection, multiRowSql, created));
+                getConfig(SqlStatements.class).customize(created);
+                multiRowStmt = created;
+            } catch (SQLException e) {
+                throw new UnableToCreateStatementException(e, ctx);
+            }
+            callCustomizers(c -> c.beforeBinding(multiRowStmt, ctx));
+            multiRowBinder = bindings.isEmpty() ? null : new ArgumentBinder.Prepared(PreparedBatch.this, multiRowStmt, params, bindings.get(0));
+            return multiRowStmt;
+        }
+
+        @Override
+        void add(PreparedBinding binding) throws SQLException {
+            buffer(binding, null);
+        }
+
+        @Override
+        <T> void add(BatchBinder.RowBinder<T> rowBinder, T row) throws SQLException {
+            buffer(row, rowBinder);
+        }
+
+        private void buffer(Object row, BatchBinder.RowBinder<?> rowBinder) throws SQLException {
+            bufferedRows[buffered] = row;
+            bufferedBinders[buffered] = rowBinder;
+            buffered++;
+            if (buffered < rowsPerStatement) {
+                return;
+            }
+            PreparedStatement target = multiRowStatement();
+            for (int i = 0; i < rowsPerStatement; i++) {
+                bind(target, multiRowBinder, i, i * parametersPerRow);
+            }
+            target.addBatch();
+            clearBuffer();
+            pendingStatements++;
+            if (pendingStatements >= statementsPerFlush) {
+                executeMultiRow();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void bind(PreparedStatement target, ArgumentBinder<?> argumentBinder, int index, int offset) throws SQLException {
+            BatchBinder.RowBinder<Object> rowBinder = (BatchBinder.RowBinder<Object>) bufferedBinders[index];
+            if (rowBinder == null) {
+                PreparedBinding binding = (PreparedBinding) bufferedRows[index];
+                getContext().setBinding(binding);
+                argumentBinder.offset = offset;
+                argumentBinder.bind(binding);
+            } else {
+                rowBinder.bind(target, bufferedRows[index], offset);
+            }
+        }
+
+        private void executeMultiRow() {
+            if (!multiRowStarted) {
+                callCustomizers(c -> c.beforeExecution(multiRowStmt, getContext()));
+                multiRowStarted = true;
+            }
+            for (int count : executeBatch(multiRowStmt)) {
+                append(count == rowsPerStatement ? 1 : Statement.SUCCESS_NO_INFO, rowsPerStatement);
+            }
+            pendingStatements = 0;
+        }
+
+        private void clearBuffer() {
+            Arrays.fill(bufferedRows, 0, buffered, null);
+            Arrays.fill(bufferedBinders, 0, buffered, null);
+            buffered = 0;
+        }
+
+        @Override
+        void finish() {
+            if (pendingStatements > 0) {
+                executeMultiRow();
+            }
+            if (multiRowStarted) {
+                callCustomizers(c -> c.afterExecution(multiRowStmt, getContext()));
+            }
+            if (buffered > 0) {
+                try {
+                    for (int i = 0; i < buffered; i++) {
+                        bind(stmt, binder, i, 0);
+                        stmt.addBatch();
+                    }
+                } catch (SQLException e) {
+                    throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+                }
+                clearBuffer();
+                execute();
+            }
+        }
+    }
+
     private static class ExecutedBatch {
         final PreparedStatement stmt;
         final int[] updateCounts;
@@ -27,6 +27,8 @@ import org.jdbi.v3.core.result.UnableToProduceResultException;
  * Statement providing convenience result handling for SQL queries.
  */
 public class Query extends SqlStatement<Query> implements ResultBearing {
+    private static final int DEFAULT_STREAMING_FETCH_SIZE = 1_000;
+
     public Query(Handle handle, String sql) {
         super(handle, sql);
     }
@@ -70,6 +72,38 @@ public class Query extends SqlStatement<Query> implements ResultBearing {
         return addCustomizer(StatementCustomizers.fetchSize(fetchSize));
     }
 
+    /**
+     * Stream the results of this query from the database in batches of 1000 rows.
+     *
+     * @return the modified query
+     * @see #streaming(int)
+     */
+    public Query streaming() {
+        return streaming(DEFAULT_STREAMING_FETCH_SIZE);
+    }
+
+    /**
+     * Stream the results of this query from the database in batches of {@code fetchSize} rows,
+     * applying whatever driver specific settings are needed so the driver does not buffer
+     * the whole result set. Use this for large results consumed through
+     * {@link org.jdbi.v3.core.result.ResultIterable#iterator()} or
+     * {@link org.jdbi.v3.core.result.ResultIterable#stream()}, and close the iterator or stream when done.
+     * <p>
+     * MySQL only streams with a fetch size of {@link Integer#MIN_VALUE}, which is used instead of
+     * {@code fetchSize}. PostgreSQL, and databases using its driver, only use a cursor inside a transaction:
+     * if the handle is not in a transaction, the query runs in a read-only transaction begun on the handle.
+     * That transaction is rolled back, and the read-only flag of the handle restored, when the results are
+     * closed or exhausted, or when the handle is closed first. Statements run on the handle while the results
+     * are open join the read-only transaction.
+     *
+     * @param fetchSize the number of rows to fetch in a bunch
+     *
+     * @return the modified query
+     */
+    public Query streaming(final int fetchSize) {
+        return addCustomizer(StatementCustomizers.streaming(fetchSize, getHandle()));
+    }
+
     /**
      * Specify the maximum number of rows the query is to return. This uses the underlying JDBC
      * {@link Statement#setMaxRows(int)}}.
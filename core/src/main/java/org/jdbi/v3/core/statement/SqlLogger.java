@@ -15,6 +15,8 @@ package org.jdbi.v3.core.statement;
 
 import java.sql.SQLException;
 
+import org.jdbi.v3.meta.Beta;
+
 /**
  * SqlLoggers receive query data before and after a query is executed, and after an exception is thrown by a bad query.
  *
@@ -46,4 +48,14 @@ public interface SqlLogger {
      * @param ex the exception
      */
     default void logException(StatementContext context, SQLException ex) {}
+
+    /**
+     * Will be called after the results of a query have been iterated and closed, if
+     * {@link org.jdbi.v3.core.result.ResultProducers#collectResultStatistics(boolean) result statistics are collected}.
+     * The {@link StatementContext} will contain the {@link StatementContext#getResultStatistics() statistics} of the results.
+     *
+     * @param context the statement context
+     */
+    @Beta
+    default void logAfterIteration(StatementContext context) {}
 }
@@ -28,7 +28,13 @@ class SqlLoggerUtil {
             ctx.setExecutionMoment(Instant.now());
             logger.logBeforeExecution(ctx);
 
-            T result = r.invoke();
+            long start = ctx.startPhase();
+            T result;
+            try {
+                result = r.invoke();
+            } finally {
+                ctx.recordPhase(StatementPhase.EXECUTE, start);
+            }
 
             ctx.setCompletionMoment(Instant.now());
             logger.logAfterExecution(ctx);
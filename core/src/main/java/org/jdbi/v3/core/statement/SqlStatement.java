@@ -48,6 +48,7 @@ import org.jdbi.v3.core.argument.ObjectFieldArguments;
 import org.jdbi.v3.core.argument.ObjectMethodArguments;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.PojoPropertyArguments;
+import org.jdbi.v3.core.argument.internal.PreparedPropertyArguments;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.IterableLike;
 import org.jdbi.v3.core.mapper.Mappers;
@@ -388,7 +389,9 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
             Object value,
             Type type,
             Supplier<NamedArgumentFinder> namedArgumentFinder) {
-        return bindNamedArgumentFinder(namedArgumentFinder.get());
+        return bindNamedArgumentFinder(
+            PreparedPropertyArguments.prepare(factory, prefix, value, getConfig(), namedArgumentFinder)
+                .orElseGet(namedArgumentFinder));
     }
 
     /**
@@ -1521,6 +1524,9 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      *     .mapTo(Contact.class)
      *     .list();
      * </pre>
+     * <p>
+     * The number of parameters may be rounded up by the {@link SqlStatements#setListBucketing(ListBucketing) list bucketing}
+     * policy, which is off by default.
      *
      * @param onEmpty handler for null/empty list
      * @param key     attribute name
@@ -1535,18 +1541,29 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
             return typedThis;
         }
 
+        SqlStatements config = getConfig(SqlStatements.class);
+        int size = values.size();
+        int bucketSize = Math.max(size, config.getListBucketing().bucketSize(size));
+        Object last = values.get(size - 1);
+        boolean padWithNull = config.getListPadding() == ListBucketing.Padding.NULL;
         StringBuilder names = new StringBuilder();
 
-        for (int i = 0; i < values.size(); i++) {
+        for (int i = 0; i < bucketSize; i++) {
             String name = "__" + key + "_" + i;
 
             if (i > 0) {
                 names.append(',');
             }
-            String paramName = getConfig().get(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
+            String paramName = config.getSqlParser().nameParameter(name, getContext());
             names.append(paramName);
 
-            bind(name, values.get(i));
+            if (i < size) {
+                bind(name, values.get(i));
+            } else if (padWithNull && last != null) {
+                bindByType(name, null, last.getClass());
+            } else {
+                bind(name, padWithNull ? null : last);
+            }
         }
 
         return define(key, names.toString());
@@ -1760,6 +1777,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         ParsedSql parsedSql = parseSql();
 
+        long start = ctx.startPhase();
         try {
             stmt = createStatement(ctx, parsedSql);
             // The statement builder might (or might not) clean up the statement when called. E.g. the
@@ -1769,12 +1787,15 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         } catch (SQLException e) {
             throw new UnableToCreateStatementException(e, ctx);
         }
+        ctx.recordPhase(StatementPhase.CREATE, start);
 
         ctx.setStatement(stmt);
 
         beforeBinding();
 
+        start = ctx.startPhase();
         new ArgumentBinder<>(stmt, ctx, parsedSql.getParameters()).bind(getBinding());
+        ctx.recordPhase(StatementPhase.BIND, start);
 
         beforeExecution();
 
@@ -1803,11 +1824,15 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         StatementContext ctx = getContext();
         SqlStatements statements = getConfig(SqlStatements.class);
 
+        long start = ctx.startPhase();
         String renderedSql = statements.preparedRender(sql, ctx);
         ctx.setRenderedSql(renderedSql);
+        ctx.recordPhase(StatementPhase.RENDER, start);
 
+        start = ctx.startPhase();
         ParsedSql parsedSql = statements.getSqlParser().parse(renderedSql, ctx);
         ctx.setParsedSql(parsedSql);
+        ctx.recordPhase(StatementPhase.PARSE, start);
 
         return parsedSql;
     }
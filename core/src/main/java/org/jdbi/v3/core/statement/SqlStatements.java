@@ -43,8 +43,11 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private Cache<Entry<TemplateEngine, String>, Function<StatementContext, String>> templateCache;
     private SqlParser sqlParser;
     private SqlLogger sqlLogger;
+    private StatementMetrics statementMetrics;
     private Integer queryTimeout;
     private boolean allowUnusedBindings;
+    private ListBucketing listBucketing;
+    private ListBucketing.Padding listPadding;
     private final Collection<StatementCustomizer> customizers = new CopyOnWriteArrayList<>();
 
     public SqlStatements() {
@@ -52,7 +55,10 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         templateEngine = new DefinedAttributeTemplateEngine();
         sqlParser = new ColonPrefixSqlParser();
         sqlLogger = SqlLogger.NOP_SQL_LOGGER;
+        statementMetrics = StatementMetrics.NOP_STATEMENT_METRICS;
         queryTimeout = null;
+        listBucketing = ListBucketing.none();
+        listPadding = ListBucketing.Padding.REPEAT_LAST;
         templateCache = Caffeine.newBuilder().maximumSize(1_000).build();
     }
 
@@ -61,8 +67,11 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.templateEngine = that.templateEngine;
         this.sqlParser = that.sqlParser;
         this.sqlLogger = that.sqlLogger;
+        this.statementMetrics = that.statementMetrics;
         this.queryTimeout = that.queryTimeout;
         this.allowUnusedBindings = that.allowUnusedBindings;
+        this.listBucketing = that.listBucketing;
+        this.listPadding = that.listPadding;
         this.customizers.addAll(that.customizers);
         this.templateCache = that.templateCache;
     }
@@ -212,6 +221,23 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    @Beta
+    public StatementMetrics getStatementMetrics() {
+        return statementMetrics;
+    }
+
+    /**
+     * Sets the {@link StatementMetrics} which receive the time spent in each phase of the statements executed by Jdbi.
+     *
+     * @param statementMetrics the metrics, or null to stop measuring
+     * @return this
+     */
+    @Beta
+    public SqlStatements setStatementMetrics(StatementMetrics statementMetrics) {
+        this.statementMetrics = statementMetrics == null ? StatementMetrics.NOP_STATEMENT_METRICS : statementMetrics;
+        return this;
+    }
+
     @Beta
     public Integer getQueryTimeout() {
         return queryTimeout;
@@ -250,6 +276,42 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    @Beta
+    public ListBucketing getListBucketing() {
+        return listBucketing;
+    }
+
+    /**
+     * Sets how many parameters {@link SqlStatement#bindList} expands a list into, so that lists of
+     * different sizes can share one statement. Defaults to {@link ListBucketing#none()}.
+     *
+     * @param listBucketing the bucketing policy
+     * @return this
+     */
+    @Beta
+    public SqlStatements setListBucketing(ListBucketing listBucketing) {
+        this.listBucketing = listBucketing;
+        return this;
+    }
+
+    @Beta
+    public ListBucketing.Padding getListPadding() {
+        return listPadding;
+    }
+
+    /**
+     * Sets what {@link SqlStatement#bindList} binds to the parameters padding a list to its bucket size.
+     * Defaults to {@link ListBucketing.Padding#REPEAT_LAST}.
+     *
+     * @param listPadding the padding
+     * @return this
+     */
+    @Beta
+    public SqlStatements setListPadding(ListBucketing.Padding listPadding) {
+        this.listPadding = listPadding;
+        return this;
+    }
+
     void customize(Statement statement) throws SQLException {
         if (queryTimeout != null) {
             statement.setQueryTimeout(queryTimeout);
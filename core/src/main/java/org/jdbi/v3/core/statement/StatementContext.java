@@ -52,6 +52,9 @@ import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.result.ResultProducers;
+import org.jdbi.v3.core.result.ResultStatistics;
+import org.jdbi.v3.meta.Beta;
 
 import static java.util.Objects.requireNonNull;
 
@@ -64,6 +67,7 @@ import static java.util.Objects.requireNonNull;
  * DISCLAIMER: The class is not intended to be extended. The final modifier is absent to allow
  * mock tools to create a mock object of this class in the user code.
  */
+@SuppressWarnings("PMD.TooManyFields")
 public class StatementContext implements Closeable {
     private final ConfigRegistry config;
     private final ExtensionMethod extensionMethod;
@@ -84,6 +88,7 @@ public class StatementContext implements Closeable {
     private Instant executionMoment;
     private Instant completionMoment;
     private Instant exceptionMoment;
+    private ResultStatistics resultStatistics;
 
     StatementContext() {
         this(new ConfigRegistry());
@@ -521,6 +526,24 @@ public class StatementContext implements Closeable {
         this.exceptionMoment = exceptionMoment;
     }
 
+    /**
+     * @return the statistics of the last results iterated for this statement, if
+     * {@link ResultProducers#collectResultStatistics(boolean) collected}
+     */
+    @Beta
+    @Nullable
+    public ResultStatistics getResultStatistics() {
+        return resultStatistics;
+    }
+
+    /**
+     * for jdbi-internal use only
+     */
+    @Beta
+    public void setResultStatistics(ResultStatistics resultStatistics) {
+        this.resultStatistics = resultStatistics;
+    }
+
     /**
      * Convenience method to measure elapsed time between start of query execution and completion or exception as appropriate. Do not call with a null argument or before a query has executed/exploded.
      * @param unit the time unit to convert to
@@ -530,6 +553,56 @@ public class StatementContext implements Closeable {
         return unit.between(executionMoment, completionMoment == null ? exceptionMoment : completionMoment);
     }
 
+    /**
+     * Starts timing a phase of this statement for the configured {@link StatementMetrics}.
+     *
+     * @return the current {@link System#nanoTime()}, or 0 if no statement metrics are configured
+     * @see #recordPhase(StatementPhase, long)
+     */
+    @Beta
+    public long startPhase() {
+        return statementMetrics() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since a phase of this statement was started.
+     *
+     * @param phase the timed phase
+     * @param start the value returned by {@link #startPhase()}
+     */
+    @Beta
+    public void recordPhase(StatementPhase phase, long start) {
+        recordPhaseNanos(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the time spent in a phase of this statement, for phases which are timed piecewise.
+     *
+     * @param phase the timed phase
+     * @param nanos the time spent in the phase, in nanoseconds
+     */
+    @Beta
+    public void recordPhaseNanos(StatementPhase phase, long nanos) {
+        StatementMetrics metrics = statementMetrics();
+        if (metrics != null) {
+            metrics.record(this, phase, nanos);
+        }
+    }
+
+    /**
+     * @return true if the phases of this statement are timed
+     */
+    @Beta
+    public boolean isTimingPhases() {
+        return statementMetrics() != null;
+    }
+
+    // the configured metrics, or null if there are none
+    private StatementMetrics statementMetrics() {
+        StatementMetrics metrics = getConfig(SqlStatements.class).getStatementMetrics();
+        return StatementMetrics.NOP_STATEMENT_METRICS.equals(metrics) ? null : metrics;
+    }
+
     /**
      * Registers a {@code Cleanable} to be invoked when the statement context is closed. Cleanables can be registered
      * on a statement context, which will be cleaned up when
@@ -547,6 +620,10 @@ public class StatementContext implements Closeable {
     @Override
     @SuppressWarnings("PMD.DoNotThrowExceptionInFinally")
     public void close() {
+        if (cleanables.isEmpty()) {
+            return;
+        }
+        long start = startPhase();
         SQLException exception = null;
         try {
             List<Cleanable> cleanablesCopy = new ArrayList<>(cleanables);
@@ -564,6 +641,7 @@ public class StatementContext implements Closeable {
                 }
             }
         } finally {
+            recordPhase(StatementPhase.CLOSE, start);
             if (exception != null) {
                 throw new CloseException("Exception thrown while cleaning StatementContext", exception);
             }
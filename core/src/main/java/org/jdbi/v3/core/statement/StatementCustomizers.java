@@ -15,6 +15,9 @@ package org.jdbi.v3.core.statement;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Locale;
+
+import org.jdbi.v3.core.Handle;
 
 /**
  * Some simple {@link StatementCustomizer}s you might find handy.
@@ -81,4 +84,51 @@ public final class StatementCustomizers {
             }
         };
     }
+
+    // see Query#streaming(int); the handle is needed to run the statement in a transaction
+    static StatementCustomizer streaming(final int fetchSize, final Handle handle) {
+        return new StatementCustomizer() {
+            @Override
+            public void beforeExecution(final PreparedStatement stmt, final StatementContext ctx) throws SQLException {
+                final String product = stmt.getConnection().getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+
+                if (product.contains("mysql")) {
+                    stmt.setFetchSize(Integer.MIN_VALUE);
+                    return;
+                }
+
+                stmt.setFetchSize(fetchSize);
+
+                if (isPostgres(product) && handle != null && !handle.isInTransaction()) {
+                    beginReadOnly(handle, ctx);
+                }
+            }
+        };
+    }
+
+    private static boolean isPostgres(String product) {
+        return product.contains("postgres") || product.contains("enterprisedb") || product.contains("redshift");
+    }
+
+    private static void beginReadOnly(Handle handle, StatementContext ctx) {
+        final boolean wasReadOnly = handle.isReadOnly();
+        if (!wasReadOnly) {
+            handle.setReadOnly(true);
+        }
+        handle.begin();
+
+        // closing the handle first ends the statement, and so the transaction, before the handle checks for one
+        final Cleanable closeStatement = ctx::close;
+        handle.addCleanable(closeStatement);
+        ctx.addCleanable(() -> {
+            handle.removeCleanable(closeStatement);
+            try {
+                handle.rollback();
+            } finally {
+                if (!wasReadOnly) {
+                    handle.setReadOnly(false);
+                }
+            }
+        });
+    }
 }
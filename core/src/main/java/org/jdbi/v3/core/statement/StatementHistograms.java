@@ -0,0 +1,262 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * {@link StatementMetrics} which aggregate the phase timings of statements into latency histograms, one per
+ * phase and statement. Statements are told apart by their rendered SQL, so statements which only differ in
+ * their bound arguments share their histograms; statements without SQL of their own, like {@link Batch},
+ * are recorded under the empty string.
+ * <p>
+ * Recording is lock free and does not allocate once a statement has been seen. Histograms have
+ * logarithmic buckets with a relative precision of 12.5%, from one nanosecond up to about 18 minutes; longer
+ * durations count towards the last bucket. Once {@code maxStatements} statements are tracked, further
+ * statements are recorded under {@link #OTHER_STATEMENTS}.
+ *
+ * <pre>
+ * StatementHistograms histograms = new StatementHistograms();
+ * jdbi.getConfig(SqlStatements.class).setStatementMetrics(histograms);
+ * ...
+ * histograms.snapshot().forEach((sql, phases) -&gt; ...);
+ * </pre>
+ */
+@Beta
+public final class StatementHistograms implements StatementMetrics {
+    /**
+     * The key of the statements recorded after {@code maxStatements} statements are tracked.
+     */
+    public static final String OTHER_STATEMENTS = "<other statements>";
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final StatementPhase[] PHASES = StatementPhase.values();
+
+    private final int maxStatements;
+    private final Map<String, PhaseHistograms> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Tracks up to 1000 statements.
+     */
+    public StatementHistograms() {
+        this(1_000);
+    }
+
+    /**
+     * @param maxStatements the number of statements to keep separate histograms for
+     */
+    public StatementHistograms(int maxStatements) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("maxStatements must be positive: " + maxStatements);
+        }
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public void record(StatementContext context, StatementPhase phase, long nanos) {
+        String sql = context.getRenderedSql();
+        String key = sql == null ? "" : sql;
+        PhaseHistograms histograms = statements.get(key);
+        if (histograms == null) {
+            if (statements.size() >= maxStatements) {
+                key = OTHER_STATEMENTS;
+            }
+            histograms = statements.computeIfAbsent(key, k -> new PhaseHistograms());
+        }
+        histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * Takes a snapshot of the histograms recorded so far. Snapshots taken while statements run may be
+     * slightly inconsistent, e.g. count a duration which is not part of the total time yet.
+     *
+     * @return the histograms of each recorded phase, by statement
+     */
+    public Map<String, Map<StatementPhase, Snapshot>> snapshot() {
+        Map<String, Map<StatementPhase, Snapshot>> snapshot = new LinkedHashMap<>();
+        statements.forEach((sql, histograms) -> snapshot.put(sql, histograms.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Forgets all statements and their histograms.
+     */
+    public void reset() {
+        statements.clear();
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // the largest duration counted in the given bucket
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static final class PhaseHistograms {
+        private final AtomicReferenceArray<Histogram> phases = new AtomicReferenceArray<>(PHASES.length);
+
+        Histogram get(StatementPhase phase) {
+            Histogram histogram = phases.get(phase.ordinal());
+            if (histogram == null) {
+                phases.compareAndSet(phase.ordinal(), null, new Histogram());
+                histogram = phases.get(phase.ordinal());
+            }
+            return histogram;
+        }
+
+        Map<StatementPhase, Snapshot> snapshot() {
+            Map<StatementPhase, Snapshot> snapshot = new EnumMap<>(StatementPhase.class);
+            for (StatementPhase phase : PHASES) {
+                Histogram histogram = phases.get(phase.ordinal());
+                if (histogram != null) {
+                    snapshot.put(phase, histogram.snapshot());
+                }
+            }
+            return Collections.unmodifiableMap(snapshot);
+        }
+    }
+
+    private static final class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxNanos = new AtomicLong(Long.MIN_VALUE);
+
+        void record(long nanos) {
+            counts.incrementAndGet(bucketOf(nanos));
+            totalNanos.addAndGet(nanos);
+            minNanos.accumulateAndGet(nanos, Math::min);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(counts, totalNanos.get(), minNanos.get(), maxNanos.get());
+        }
+    }
+
+    /**
+     * An immutable copy of the durations recorded for one phase of a statement.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        Snapshot(AtomicLongArray counts, long totalNanos, long minNanos, long maxNanos) {
+            this.counts = IntStream.range(0, counts.length()).mapToLong(counts::get).toArray();
+            this.count = LongStream.of(this.counts).sum();
+            this.totalNanos = totalNanos;
+            this.minNanos = count == 0 ? 0 : minNanos;
+            this.maxNanos = count == 0 ? 0 : maxNanos;
+        }
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the sum of the recorded durations, in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return the shortest recorded duration, in nanoseconds
+         */
+        public long getMinNanos() {
+            return minNanos;
+        }
+
+        /**
+         * @return the longest recorded duration, in nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * @return the mean of the recorded durations, in nanoseconds
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * @param percentile the percentile, from 0 to 100
+         * @return a duration, in nanoseconds, which at least the given percentage of the recorded durations
+         * do not exceed, within the precision of the histogram
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.max(minNanos, Math.min(upperBoundOf(i), maxNanos));
+                }
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{count=" + count
+                + ", mean=" + (long) getMeanNanos()
+                + "ns, p50=" + getValueAtPercentile(50)
+                + "ns, p99=" + getValueAtPercentile(99)
+                + "ns, max=" + maxNanos + "ns}";
+        }
+    }
+}
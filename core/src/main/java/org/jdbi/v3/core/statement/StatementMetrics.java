@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Receives the time spent in each {@link StatementPhase phase} of the statements executed by Jdbi.
+ * Unlike {@link SqlLogger}, which sees the moments statements are executed at, metrics receive durations
+ * measured with {@link System#nanoTime()}, and see the phases around the execution as well.
+ * <p>
+ * Metrics are called on the thread running the statement, often several times per statement, and must be
+ * thread safe and fast. No time is measured at all while the {@link #NOP_STATEMENT_METRICS default} is
+ * configured.
+ *
+ * @see SqlStatements#setStatementMetrics(StatementMetrics)
+ * @see StatementHistograms
+ */
+@Beta
+@FunctionalInterface
+public interface StatementMetrics {
+    StatementMetrics NOP_STATEMENT_METRICS = (context, phase, nanos) -> {};
+
+    /**
+     * Records the duration of a phase of a statement.
+     *
+     * @param context the statement context, which holds the rendered SQL once it has been rendered
+     * @param phase the timed phase
+     * @param nanos the time spent in the phase, in nanoseconds
+     */
+    void record(StatementContext context, StatementPhase phase, long nanos);
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * The phases of a statement which are timed for {@link StatementMetrics}.
+ */
+@Beta
+public enum StatementPhase {
+    /**
+     * Rendering the SQL template with the configured {@link TemplateEngine}.
+     */
+    RENDER,
+    /**
+     * Parsing the rendered SQL with the configured {@link SqlParser}.
+     */
+    PARSE,
+    /**
+     * Creating the JDBC statement through the {@link StatementBuilder}, and customizing it.
+     */
+    CREATE,
+    /**
+     * Binding the arguments of a single statement. Not recorded for batches, which bind and execute in turns.
+     */
+    BIND,
+    /**
+     * Executing the statement, or a part of a batch.
+     */
+    EXECUTE,
+    /**
+     * Fetching the first row of a result set, recorded when a result is iterated.
+     */
+    FIRST_ROW,
+    /**
+     * Mapping the rows of a result set, recorded once as the total time spent in the row mapper when the result is closed.
+     */
+    MAPPING,
+    /**
+     * Closing the statement, its results, and the other resources held by its {@link StatementContext}.
+     */
+    CLOSE
+}
@@ -16,11 +16,11 @@ package org.jdbi.v3.core.transaction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
@@ -31,7 +31,8 @@ import org.jdbi.v3.core.internal.exceptions.Unchecked;
  * directly on the JDBC Connection instance.
  */
 public class LocalTransactionHandler implements TransactionHandler {
-    private final Map<Handle, BoundLocalTransactionHandler> bound = Collections.synchronizedMap(new WeakHashMap<>());
+    // concurrent map with weak, identity compared keys: handles of different threads never contend on a shared lock
+    private final Cache<Handle, BoundLocalTransactionHandler> bound = Caffeine.newBuilder().weakKeys().build();
 
     @Override
     public void begin(Handle handle) {
@@ -79,7 +80,7 @@ public class LocalTransactionHandler implements TransactionHandler {
     }
 
     TransactionHandler nonspecial(Handle handle) {
-        return bound.computeIfAbsent(handle, Unchecked.function(BoundLocalTransactionHandler::new));
+        return bound.get(handle, Unchecked.function(BoundLocalTransactionHandler::new));
     }
 
     public static LocalTransactionHandler binding() {
@@ -57,6 +57,14 @@ public class TestOnDemandMethodBehavior {
             throw new SQLException("boom");
         }
 
+        default int add(int a, Integer b) {
+            return a + b;
+        }
+
+        default String join(String... parts) {
+            return String.join(",", parts);
+        }
+
         Handle getHandle();
 
         void foo();
@@ -132,6 +140,16 @@ public class TestOnDemandMethodBehavior {
         verify(connectionFactory, times(1)).openConnection();
     }
 
+    @Test
+    public void testArgumentsAndResultsArePassedThrough() throws SQLException {
+        for (int i = 0; i < 3; i++) {
+            assertThat(onDemand.add(i, 2)).isEqualTo(i + 2);
+        }
+        assertThat(onDemand.join("a", "b")).isEqualTo("a,b");
+        assertThat(onDemand.join()).isEmpty();
+        verify(connectionFactory, never()).openConnection();
+    }
+
     @Test
     public void testExceptionThrown() {
         db.registerExtension(new UselessDaoExtension());
@@ -52,4 +52,19 @@ public class PrimitivesArgumentFactoryTest {
             .describedAs("binding a null to a boxed type is fine")
             .isNull();
     }
+
+    @Test
+    public void settingOfEachHandleIsRespected() {
+        try (Handle other = dbRule.getJdbi().open()) {
+            assertThat(other.createQuery("select :foo").bindByType("foo", null, int.class).mapTo(int.class).one())
+                .isZero();
+
+            handle.getConfig(Arguments.class).setBindingNullToPrimitivesPermitted(false);
+
+            assertThatThrownBy(() -> handle.createQuery("select :foo").bindByType("foo", null, int.class).mapTo(int.class).one())
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(other.createQuery("select :foo").bindByType("foo", null, int.class).mapTo(int.class).one())
+                .isZero();
+        }
+    }
 }
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.argument;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
@@ -297,6 +298,24 @@ public class TestNamedParams {
         assertThat(something).isEqualTo(new Something(0, "Keith"));
     }
 
+    @Test
+    public void testBeanBindingRespectsArgumentFactoriesOfEachHandle() {
+        Handle plain = dbRule.openHandle();
+        Handle shouting = dbRule.openHandle();
+        shouting.registerArgument((QualifiedArgumentFactory) (type, value, config) ->
+            String.class.equals(type.getType())
+                ? Optional.<Argument>of((position, statement, ctx) -> statement.setString(position, ((String) value).toUpperCase()))
+                : Optional.empty());
+
+        String insert = "insert into something (id, name) values (:id, :name)";
+        plain.createUpdate(insert).bindBean(new Something(1, "Keith")).execute();
+        shouting.createUpdate(insert).bindBean(new Something(2, "Keith")).execute();
+        plain.createUpdate(insert).bindBean(new Something(3, "Keith")).execute();
+
+        assertThat(plain.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Keith", "KEITH", "Keith");
+    }
+
     public static class Keith {
         public String getName() {
             return "Keith";
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiExecutor {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private final ExecutorService threads = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() throws InterruptedException {
+        threads.shutdownNow();
+        threads.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWithHandle() throws Exception {
+        JdbiExecutor executor = JdbiExecutor.create(dbRule.getJdbi(), threads);
+
+        executor.useTransaction(h -> h.execute("insert into something (id, name) values (1, 'eric')"))
+            .toCompletableFuture().get();
+        List<String> names = executor.withHandle(h -> h.createQuery("select name from something").mapTo(String.class).list())
+            .toCompletableFuture().get();
+
+        assertThat(names).containsExactly("eric");
+        assertThat(executor.getStartedCount()).isEqualTo(2);
+        assertThat(executor.getInFlight()).isZero();
+    }
+
+    @Test
+    public void testNestedCallsReuseHandle() throws Exception {
+        Jdbi jdbi = dbRule.getJdbi();
+        JdbiExecutor executor = JdbiExecutor.create(jdbi, threads, 1, 1);
+
+        Boolean sameHandle = executor.withHandle(outer -> jdbi.withHandle(inner -> inner == outer))
+            .toCompletableFuture().get();
+
+        assertThat(sameHandle).isTrue();
+    }
+
+    @Test
+    public void testCallbackException() {
+        JdbiExecutor executor = JdbiExecutor.create(dbRule.getJdbi(), threads);
+
+        CompletableFuture<Object> future = executor.withHandle(h -> {
+            throw new IllegalStateException("boom");
+        }).toCompletableFuture();
+
+        assertThatThrownBy(future::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testBoundedConcurrencyAndQueue() throws Exception {
+        JdbiExecutor executor = JdbiExecutor.create(dbRule.getJdbi(), threads, 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> first = executor.withHandle(h -> {
+            running.countDown();
+            release.await();
+            return 1;
+        }).toCompletableFuture();
+        running.await();
+        CompletableFuture<Integer> second = executor.withHandle(h -> 2).toCompletableFuture();
+        CompletableFuture<Integer> third = executor.withHandle(h -> 3).toCompletableFuture();
+
+        assertThat(executor.getInFlight()).isEqualTo(1);
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(third::get).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(second.get()).isEqualTo(2);
+        assertThat(executor.getQueueDepth()).isZero();
+        assertThat(executor.getQueueWaitNanos()).isPositive();
+    }
+
+    @Test
+    public void testCancelQueued() throws Exception {
+        JdbiExecutor executor = JdbiExecutor.create(dbRule.getJdbi(), threads, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        CompletableFuture<Integer> first = executor.withHandle(h -> {
+            release.await();
+            return 1;
+        }).toCompletableFuture();
+        CompletableFuture<Integer> cancelled = executor.withHandle(h -> {
+            ran.set(true);
+            return 2;
+        }).toCompletableFuture();
+        cancelled.cancel(true);
+        assertThat(executor.getQueueDepth()).isZero();
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(executor.withHandle(h -> 3).toCompletableFuture().get()).isEqualTo(3);
+        assertThat(ran).isFalse();
+        assertThat(executor.getStartedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCancelRunningStopsLaterStatements() throws Exception {
+        JdbiExecutor executor = JdbiExecutor.create(dbRule.getJdbi(), threads, 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        CompletableFuture<Integer> cancelled = executor.withHandle(h -> {
+            running.countDown();
+            cancelledLatch.await();
+            try {
+                return h.execute("insert into something (id, name) values (1, 'eric')");
+            } catch (Throwable t) {
+                failure.set(t);
+                throw t;
+            } finally {
+                done.countDown();
+            }
+        }).toCompletableFuture();
+        running.await();
+        cancelled.cancel(true);
+        cancelledLatch.countDown();
+        done.await();
+
+        assertThat(failure.get()).isInstanceOf(CancellationException.class);
+        assertThat(dbRule.getSharedHandle().createQuery("select count(*) from something").mapTo(int.class).one()).isZero();
+    }
+}
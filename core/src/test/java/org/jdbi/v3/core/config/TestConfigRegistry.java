@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConfigRegistry {
+    @Test
+    public void testCopyIsTakenWhenCopying() {
+        ConfigRegistry registry = new ConfigRegistry();
+        CountingConfig original = registry.get(CountingConfig.class);
+        original.value = 1;
+
+        ConfigRegistry copy = registry.createCopy();
+        assertThat(original.copies).hasValue(1);
+
+        CountingConfig copied = copy.get(CountingConfig.class);
+        assertThat(copied).isNotSameAs(original);
+        assertThat(copied.value).isEqualTo(1);
+        assertThat(copied.registry).isSameAs(copy);
+        assertThat(original.copies).hasValue(1);
+    }
+
+    @Test
+    public void testCopiesAreIndependent() {
+        ConfigRegistry registry = new ConfigRegistry();
+        registry.get(CountingConfig.class).value = 1;
+
+        ConfigRegistry copy = registry.createCopy();
+        copy.get(CountingConfig.class).value = 2;
+
+        assertThat(registry.get(CountingConfig.class).value).isEqualTo(1);
+        assertThat(copy.get(CountingConfig.class).value).isEqualTo(2);
+    }
+
+    @Test
+    public void testLaterChangesToOriginalDoNotReachCopy() {
+        ConfigRegistry root = new ConfigRegistry();
+        root.get(CountingConfig.class).value = 1;
+
+        ConfigRegistry child = root.createCopy();
+        ConfigRegistry grandChild = child.createCopy();
+        root.get(CountingConfig.class).value = 2;
+        child.get(CountingConfig.class).value = 3;
+
+        assertThat(child.get(CountingConfig.class).value).isEqualTo(3);
+        assertThat(grandChild.get(CountingConfig.class).value).isEqualTo(1);
+    }
+
+    @Test
+    public void testUnknownConfigIsCreated() {
+        ConfigRegistry copy = new ConfigRegistry().createCopy();
+        CountingConfig config = copy.get(CountingConfig.class);
+
+        assertThat(config.value).isZero();
+        assertThat(config.registry).isSameAs(copy);
+    }
+
+    public static class CountingConfig implements JdbiConfig<CountingConfig> {
+        private final AtomicInteger copies;
+        private ConfigRegistry registry;
+        private int value;
+
+        public CountingConfig() {
+            this.copies = new AtomicInteger();
+        }
+
+        private CountingConfig(CountingConfig that) {
+            this.copies = that.copies;
+            this.value = that.value;
+        }
+
+        @Override
+        public void setRegistry(ConfigRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public CountingConfig createCopy() {
+            copies.incrementAndGet();
+            return new CountingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OwnedThreadLocalTest {
+    private final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        otherThread.shutdown();
+    }
+
+    @Test
+    public void testOwnerValue() {
+        OwnedThreadLocal<String> local = new OwnedThreadLocal<>("initial");
+        assertThat(local.get()).isEqualTo("initial");
+
+        local.set("owner");
+        assertThat(local.get()).isEqualTo("owner");
+
+        local.remove();
+        assertThat(local.get()).isEqualTo("initial");
+    }
+
+    @Test
+    public void testValuesAreThreadLocal() throws Exception {
+        OwnedThreadLocal<String> local = new OwnedThreadLocal<>("initial");
+        local.set("owner");
+
+        String other = CompletableFuture.supplyAsync(() -> {
+            String before = local.get();
+            local.set("other");
+            return before + "," + local.get();
+        }, otherThread).get();
+
+        assertThat(other).isEqualTo("initial,other");
+        assertThat(local.get()).isEqualTo("owner");
+        assertThat(CompletableFuture.supplyAsync(local::get, otherThread).get()).isEqualTo("other");
+
+        CompletableFuture.runAsync(local::remove, otherThread).get();
+        assertThat(CompletableFuture.supplyAsync(local::get, otherThread).get()).isEqualTo("initial");
+        assertThat(local.get()).isEqualTo("owner");
+    }
+}
@@ -13,10 +13,17 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import java.lang.reflect.Type;
 import java.util.Calendar;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
@@ -62,4 +69,110 @@ public class TestRegisteredMappers {
         assertThat(db.getConfig(RowMappers.class).findFor(iterableOfCalendarType))
             .contains(mapper);
     }
+
+    @Test
+    public void testCopiesShareResolvedMappers() {
+        AtomicInteger builds = new AtomicInteger();
+        RowMappers mappers = db.getConfig(RowMappers.class);
+        mappers.register(countingFactory(builds, new SomethingMapper()));
+
+        RowMapper<Something> resolved = mappers.findFor(Something.class).orElse(null);
+        RowMappers copy = db.getConfig().createCopy().get(RowMappers.class);
+
+        assertThat(copy.findFor(Something.class)).containsSame(resolved);
+        assertThat(builds).hasValue(1);
+    }
+
+    @Test
+    public void testRegisterInCopyDoesNotAffectOriginal() {
+        RowMappers mappers = db.getConfig(RowMappers.class);
+        SomethingMapper original = new SomethingMapper();
+        mappers.register(Something.class, original);
+        assertThat(mappers.findFor(Something.class)).containsSame(original);
+
+        RowMappers copy = mappers.createCopy();
+        copy.setRegistry(new ConfigRegistry());
+        SomethingMapper replacement = new SomethingMapper();
+        copy.register(Something.class, replacement);
+
+        assertThat(copy.findFor(Something.class)).containsSame(replacement);
+        assertThat(mappers.findFor(Something.class)).containsSame(original);
+    }
+
+    @Test
+    public void testHandlesResolveWithTheirOwnConfig() {
+        db.registerRowMapper((RowMapperFactory) (type, config) -> type == String.class
+            ? Optional.of((rs, ctx) -> rs.getString(1) + config.get(Suffix.class).getSuffix())
+            : Optional.empty());
+
+        String plain = db.withHandle(h -> h.createQuery("select 'a'").mapTo(String.class).one());
+        String suffixed = db.withHandle(h -> {
+            h.getConfig(Suffix.class).setSuffix("!");
+            return h.createQuery("select 'a'").mapTo(String.class).one();
+        });
+
+        assertThat(plain).isEqualTo("a");
+        assertThat(suffixed).isEqualTo("a!");
+    }
+
+    @Test
+    public void testRegisterOnHandleDoesNotAffectJdbi() {
+        db.registerRowMapper(new SomethingMapper());
+        db.useHandle(h -> h.execute("insert into something (id, name) values (1, 'eric')"));
+
+        SomethingMapper replacement = new SomethingMapper();
+        db.useHandle(h -> {
+            h.registerRowMapper(Something.class, replacement);
+            assertThat(h.getConfig(RowMappers.class).findFor(Something.class)).containsSame(replacement);
+        });
+        db.useHandle(h -> assertThat(h.getConfig(RowMappers.class).findFor(Something.class).get()).isNotSameAs(replacement));
+    }
+
+    @Test
+    public void testSettingChangedOnHandleIsNotShared() {
+        db.useHandle(h -> {
+            h.getConfig(Enums.class).setEnumStrategy(EnumStrategy.BY_ORDINAL);
+            assertThat(h.createQuery("select 1").mapTo(Color.class).one()).isEqualTo(Color.GREEN);
+        });
+
+        Color color = db.withHandle(h -> h.createQuery("select 'BLUE'").mapTo(Color.class).one());
+        assertThat(color).isEqualTo(Color.BLUE);
+    }
+
+    public enum Color {
+        RED, GREEN, BLUE
+    }
+
+    public static class Suffix implements JdbiConfig<Suffix> {
+        private String suffix = "";
+
+        public Suffix() {}
+
+        private Suffix(Suffix that) {
+            this.suffix = that.suffix;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public void setSuffix(String suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override
+        public Suffix createCopy() {
+            return new Suffix(this);
+        }
+    }
+
+    private static RowMapperFactory countingFactory(AtomicInteger builds, RowMapper<Something> mapper) {
+        return (Type type, ConfigRegistry config) -> {
+            if (type != Something.class) {
+                return Optional.empty();
+            }
+            builds.incrementAndGet();
+            return Optional.of(mapper);
+        };
+    }
 }
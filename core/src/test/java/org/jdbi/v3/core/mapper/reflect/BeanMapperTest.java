@@ -23,6 +23,8 @@ import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.reflect.ConstructorMapperTest.ClassPropagateNullThing;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
 import org.junit.Rule;
@@ -81,6 +83,90 @@ public class BeanMapperTest {
         assertThat(bean.getS()).isEqualTo("foo");
     }
 
+    @Test
+    public void testGeneratedAccessors() {
+        handle.getConfig(ReflectionMappers.class).setGeneratedAccessors(true);
+        handle.registerRowMapper(BeanMapper.factory(ColumnNameBean.class));
+        handle.registerRowMapper(BeanMapper.factory(NestedBean.class));
+
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        ColumnNameBean bean = handle.createQuery("select * from something")
+                .mapTo(ColumnNameBean.class)
+                .one();
+
+        assertThat(bean.getI()).isEqualTo(1);
+        assertThat(bean.getS()).isEqualTo("foo");
+
+        assertThat(handle
+            .createQuery("select id, name from something")
+            .mapTo(NestedBean.class)
+            .one())
+            .extracting("nested.id", "nested.name")
+            .containsExactly(1, "foo");
+    }
+
+    @Test
+    public void testGeneratedAccessorsBindBean() {
+        handle.getConfig(ReflectionMappers.class).setGeneratedAccessors(true);
+
+        ColumnNameBean bean = new ColumnNameBean();
+        bean.setI(2);
+        bean.setS("bar");
+
+        handle.createUpdate("insert into something (id, name) values (:i, :s)")
+            .bindBean(bean)
+            .execute();
+
+        assertThat(handle.createQuery("select name from something where id = 2")
+            .mapTo(String.class)
+            .one())
+            .isEqualTo("bar");
+    }
+
+    @Test
+    public void testSpecializationIsCachedPerColumnLayout() {
+        handle.registerRowMapper(BeanMapper.factory(ColumnNameBean.class));
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        ReflectionMappers reflectionMappers = handle.getConfig(ReflectionMappers.class);
+        long misses = reflectionMappers.specializationCacheStats().missCount();
+        long hits = reflectionMappers.specializationCacheStats().hitCount();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(handle.createQuery("select id, name from something")
+                .mapTo(ColumnNameBean.class)
+                .one())
+                .extracting(ColumnNameBean::getI, ColumnNameBean::getS)
+                .containsExactly(1, "foo");
+        }
+
+        assertThat(handle.createQuery("select id from something")
+            .mapTo(ColumnNameBean.class)
+            .one())
+            .extracting(ColumnNameBean::getI, ColumnNameBean::getS)
+            .containsExactly(1, null);
+
+        assertThat(reflectionMappers.specializationCacheStats().missCount() - misses).isEqualTo(2);
+        assertThat(reflectionMappers.specializationCacheStats().hitCount() - hits).isEqualTo(2);
+    }
+
+    @Test
+    public void testSpecializationIsNotSharedAcrossColumnTypesOrSettings() {
+        handle.registerRowMapper(BeanMapper.factory(ColumnNameBean.class));
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        ReflectionMappers reflectionMappers = handle.getConfig(ReflectionMappers.class);
+        long misses = reflectionMappers.specializationCacheStats().missCount();
+
+        handle.createQuery("select id, name from something").mapTo(ColumnNameBean.class).one();
+        handle.createQuery("select cast(id as integer) as id, name from something").mapTo(ColumnNameBean.class).one();
+        handle.getConfig(PojoTypes.class).register(Object.class, BeanPropertiesFactory::propertiesFor);
+        handle.createQuery("select id, name from something").mapTo(ColumnNameBean.class).one();
+
+        assertThat(reflectionMappers.specializationCacheStats().missCount() - misses).isEqualTo(3);
+    }
+
     @Test
     public void testNested() {
         handle.registerRowMapper(BeanMapper.factory(NestedBean.class));
@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.qualifier;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
 import org.jdbi.v3.core.generic.GenericType;
@@ -51,4 +52,15 @@ public class TestQualifiedType {
             .isNotEqualTo(QualifiedType.of(String.class).with(foo(1)))
             .isNotEqualTo(QualifiedType.of(String.class).with(bar("1")));
     }
+
+    @Test
+    public void testUnqualifiedClassesAreShared() {
+        assertThat(QualifiedType.of(int.class))
+            .isSameAs(QualifiedType.of(int.class))
+            .isSameAs(QualifiedType.of((Type) int.class));
+
+        assertThat(QualifiedType.of(String.class).with(NVarchar.class))
+            .isNotSameAs(QualifiedType.of(String.class));
+        assertThat(QualifiedType.of(String.class).getQualifiers()).isEmpty();
+    }
 }
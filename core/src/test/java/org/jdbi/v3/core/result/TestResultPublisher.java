@@ -0,0 +1,265 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementContextAccess;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestResultPublisher {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        h.execute("create table numbers (n int)");
+        h.execute("insert into numbers values (1), (2), (3), (4), (5)");
+    }
+
+    @Test
+    public void testPublishesAsRequested() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        query().publisher(Runnable::run).subscribe(subscriber);
+
+        assertThat(subscriber.items).isEmpty();
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void testRequestFromOnNext() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+                @Override
+                public void onNext(Integer item) {
+                    super.onNext(item);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(items);
+                }
+            };
+            query().publisher(executor).subscribe(subscriber);
+            subscriber.subscription.request(1);
+
+            assertThat(result.get(10, TimeUnit.SECONDS)).containsExactly(1, 2, 3, 4, 5);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancelClosesResults() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultIterable<Integer> query = query();
+        query.publisher(Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void testMappingFailure() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        h.createQuery("select n from numbers order by n")
+            .map((rs, ctx) -> {
+                if (rs.getInt(1) == 3) {
+                    throw new IllegalStateException("three");
+                }
+                return rs.getInt(1);
+            })
+            .publisher(Runnable::run)
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class).hasMessage("three");
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        query().publisher(Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSingleSubscriber() {
+        ResultPublisher<Integer> publisher = query().publisher(Runnable::run);
+        publisher.subscribe(new RecordingSubscriber<>());
+
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testDemandDrivesFetchSize() throws Exception {
+        ResultSet results = mock(ResultSet.class);
+        when(results.next()).thenReturn(true, true, true, false);
+        when(results.getInt(1)).thenReturn(1, 2, 3);
+        StatementContext ctx = StatementContextAccess.createContext();
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultIterable.of(() -> results, (rs, c) -> rs.getInt(1), ctx)
+            .publisher(Runnable::run)
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        verify(results).setFetchSize(100);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        verify(results).setFetchSize(1000);
+
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isTrue();
+        verify(results).close();
+    }
+
+    @Test
+    public void testConfiguredFetchSizeIsKept() throws Exception {
+        ResultSet results = mock(ResultSet.class);
+        when(results.getFetchSize()).thenReturn(50);
+        when(results.next()).thenReturn(true, false);
+        when(results.getInt(1)).thenReturn(1);
+        StatementContext ctx = StatementContextAccess.createContext();
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultIterable.of(() -> results, (rs, c) -> rs.getInt(1), ctx)
+            .publisher(Runnable::run)
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        verify(results, never()).setFetchSize(anyInt());
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void testCloseFailureAfterCancel() throws Exception {
+        ResultSet results = mock(ResultSet.class);
+        when(results.next()).thenReturn(true);
+        when(results.getInt(1)).thenReturn(1);
+        doThrow(new SQLException("close")).when(results).close();
+        StatementContext ctx = StatementContextAccess.createContext();
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultIterable.of(() -> results, (rs, c) -> rs.getInt(1), ctx)
+            .publisher(Runnable::run)
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.error).isNull();
+        verify(results).close();
+    }
+
+    @Test
+    public void testFailingOnCompleteIsNotFollowedByOnError() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                throw new IllegalStateException("complete");
+            }
+        };
+        query().publisher(Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+    }
+
+    private ResultIterable<Integer> query() {
+        return h.createQuery("select n from numbers order by n").mapTo(Integer.class);
+    }
+
+    private static class RecordingSubscriber<T> implements ResultPublisher.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        ResultPublisher.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(ResultPublisher.Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestResultStatistics {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private final List<ResultStatistics> logged = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        dbRule.getJdbi().getConfig(SqlStatements.class).setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterIteration(StatementContext context) {
+                logged.add(context.getResultStatistics());
+            }
+        });
+        try (Handle h = dbRule.openHandle()) {
+            h.execute("insert into something (id, name) values (1, 'eric'), (2, 'brian'), (3, 'john')");
+        }
+    }
+
+    @Test
+    public void testNotCollectedByDefault() {
+        try (Handle h = dbRule.openHandle()) {
+            ResultIterator<String> it = h.createQuery("select name from something").mapTo(String.class).iterator();
+            it.forEachRemaining(name -> {});
+
+            assertThat(it.getContext().getResultStatistics()).isNull();
+        }
+        assertThat(logged).isEmpty();
+    }
+
+    @Test
+    public void testCollected() {
+        try (Handle h = dbRule.openHandle()) {
+            h.getConfig(ResultProducers.class).collectResultStatistics(true);
+            ResultIterator<String> it = h.createQuery("select name from something order by id").mapTo(String.class).iterator();
+
+            assertThat(it.next()).isEqualTo("eric");
+            ResultStatistics statistics = it.getContext().getResultStatistics();
+            assertThat(statistics.isClosed()).isFalse();
+            assertThat(statistics.getOpenNanos()).isZero();
+
+            it.forEachRemaining(name -> {});
+
+            assertThat(statistics.isClosed()).isTrue();
+            assertThat(statistics.getRowCount()).isEqualTo(3);
+            assertThat(statistics.getFetchNanos()).isPositive();
+            assertThat(statistics.getMappingNanos()).isPositive();
+            assertThat(statistics.getOpenNanos()).isGreaterThanOrEqualTo(statistics.getFetchNanos() + statistics.getMappingNanos());
+            assertThat(statistics.getConsumerNanos()).isEqualTo(statistics.getOpenNanos() - statistics.getFetchNanos() - statistics.getMappingNanos());
+            assertThat(logged).containsExactly(statistics);
+        }
+    }
+
+    @Test
+    public void testClosedEarly() {
+        try (Handle h = dbRule.openHandle()) {
+            h.getConfig(ResultProducers.class).collectResultStatistics(true);
+            ResultIterator<String> it = h.createQuery("select name from something order by id").mapTo(String.class).iterator();
+            it.next();
+            it.close();
+            it.close();
+
+            assertThat(it.getContext().getResultStatistics().getRowCount()).isEqualTo(2);
+            assertThat(logged).hasSize(1);
+        }
+    }
+}
@@ -14,7 +14,9 @@
 package org.jdbi.v3.core.statement;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -25,8 +27,10 @@ import org.junit.rules.MethodRule;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.when;
 
 public class ArgumentBinderTest {
@@ -40,6 +44,7 @@ public class ArgumentBinderTest {
     private StatementContext ctx;
 
     private SqlStatements statements = new SqlStatements();
+    private StatementContext realContext = new StatementContext();
 
     @Before
     public void before() {
@@ -99,6 +104,111 @@ public class ArgumentBinderTest {
             .doesNotThrowAnyException();
     }
 
+    @Test
+    public void testNamedRepeatedParameterBindsSameValue() {
+        List<String> bound = new ArrayList<>();
+        Binding binding = new Binding(realContext);
+        binding.addNamed("a", recording(bound, "a"));
+        binding.addNamed("b", recording(bound, "b"));
+
+        new ArgumentBinder<>(stmt, realContext, namedParams("a", "b", "a")).bind(binding);
+
+        assertThat(bound).containsExactly("a@1", "b@2", "a@3");
+    }
+
+    @Test
+    public void testNamedRebindOverwrites() {
+        List<String> bound = new ArrayList<>();
+        Binding binding = new Binding(realContext);
+        binding.addNamed("a", recording(bound, "first"));
+        binding.addNamed("a", recording(bound, "second"));
+
+        new ArgumentBinder<>(stmt, realContext, namedParams("a")).bind(binding);
+
+        assertThat(bound).containsExactly("second@1");
+    }
+
+    @Test
+    public void testNamedManyParameters() {
+        List<String> bound = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        String[] names = new String[40];
+        Binding binding = new Binding(realContext);
+        for (int i = names.length - 1; i >= 0; i--) {
+            names[i] = "p" + i;
+            binding.addNamed(names[i], recording(bound, names[i]));
+        }
+        for (int i = 0; i < names.length; i++) {
+            expected.add(names[i] + "@" + (i + 1));
+        }
+
+        new ArgumentBinder<>(stmt, realContext, namedParams(names)).bind(binding);
+
+        assertThat(bound).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void testPositionalRebindCountsOnce() {
+        List<String> bound = new ArrayList<>();
+        Binding binding = new Binding(realContext);
+        binding.addPositional(1, recording(bound, "b"));
+        binding.addPositional(0, recording(bound, "a"));
+        binding.addPositional(1, recording(bound, "c"));
+
+        new ArgumentBinder<>(stmt, realContext, positionalParams(2)).bind(binding);
+
+        assertThat(bound).containsExactly("a@1", "c@2");
+    }
+
+    @Test
+    public void testNamedSlotsFollowBindingOrder() {
+        List<String> bound = new ArrayList<>();
+        ArgumentBinder<?> binder = new ArgumentBinder<>(stmt, realContext, namedParams("a", "b"));
+
+        Binding first = new Binding(realContext);
+        first.addNamed("a", recording(bound, "a1"));
+        first.addNamed("b", recording(bound, "b1"));
+        binder.bind(first);
+
+        Binding second = new Binding(realContext);
+        second.addNamed("b", recording(bound, "b2"));
+        second.addNamed("a", recording(bound, "a2"));
+        binder.bind(second);
+
+        assertThat(bound).containsExactly("a1@1", "b1@2", "a2@1", "b2@2");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMapViews() {
+        class LegacyBinding extends Binding {
+            LegacyBinding() {
+                super(realContext);
+            }
+        }
+        LegacyBinding binding = new LegacyBinding();
+        binding.addPositional(1, "b");
+        binding.positionals.put(0, "a");
+        binding.addNamed("x", 1);
+        binding.named.put("y", null);
+
+        assertThat(binding.positionals).containsExactly(entry(0, "a"), entry(1, "b"));
+        assertThat(binding.named).containsExactly(entry("x", 1), entry("y", null));
+
+        binding.positionals.remove(0);
+        binding.named.remove("x");
+
+        assertThat(binding.getPositional(0)).isSameAs(Binding.UNBOUND);
+        assertThat(binding.positionalCount()).isOne();
+        assertThat(binding.getNamed("x")).isSameAs(Binding.UNBOUND);
+        assertThat(binding.getNamed("y")).isNull();
+        assertThat(binding.named).containsOnlyKeys("y");
+    }
+
+    private static Argument recording(List<String> bound, String label) {
+        return (position, statement, context) -> bound.add(label + "@" + position);
+    }
+
     private ParsedParameters positionalParams(int size) {
         String[] names = new String[size];
         Arrays.fill(names, "?");
@@ -104,6 +104,41 @@ public class TestBindList {
                 tuple(3, "abc", null, null));
     }
 
+    @Test
+    public void testBindListWithBuckets() {
+        handle.getConfig(SqlStatements.class).setListBucketing(ListBucketing.powersOfTwo());
+
+        Query query = handle.createQuery("select id from thing where id in (<ids>) order by id")
+            .bindList("ids", 1, 2, 3);
+
+        assertThat(query.mapTo(int.class).list()).containsExactly(1, 2);
+        assertThat(query.getContext().getRenderedSql()).contains("__ids_3").doesNotContain("__ids_4");
+    }
+
+    @Test
+    public void testBindListWithBucketsNotIn() {
+        handle.getConfig(SqlStatements.class).setListBucketing(ListBucketing.ladder(5));
+
+        assertThat(handle.createQuery("select id from thing where id not in (<ids>)")
+            .bindList("ids", 1)
+            .mapTo(int.class)
+            .list())
+            .containsExactly(2);
+    }
+
+    @Test
+    public void testBindListWithNullPadding() {
+        handle.getConfig(SqlStatements.class)
+            .setListBucketing(ListBucketing.ladder(4))
+            .setListPadding(ListBucketing.Padding.NULL);
+
+        Query query = handle.createQuery("select id from thing where id in (<ids>)")
+            .bindList("ids", 2);
+
+        assertThat(query.mapTo(int.class).list()).containsExactly(2);
+        assertThat(query.getContext().getRenderedSql()).contains("__ids_3");
+    }
+
     public static class Thing {
         public int id;
         public String foo;
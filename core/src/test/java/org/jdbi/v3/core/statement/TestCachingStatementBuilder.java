@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingStatementBuilder {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle h;
+    private CachingStatementBuilder builder;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        builder = new CachingStatementBuilder(2);
+        h.setStatementBuilder(builder);
+    }
+
+    @Test
+    public void testReusesStatement() {
+        for (int i = 0; i < 3; i++) {
+            h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", i)
+                .bind("name", "name" + i)
+                .execute();
+        }
+
+        assertThat(builder.getMissCount()).isEqualTo(1);
+        assertThat(builder.getHitCount()).isEqualTo(2);
+        assertThat(builder.size()).isEqualTo(1);
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("name0", "name1", "name2");
+    }
+
+    @Test
+    public void testResetsCustomizedStatement() {
+        h.execute("insert into something (id, name) values (1, 'a'), (2, 'b'), (3, 'c')");
+
+        String sql = "select name from something order by id";
+        assertThat(h.createQuery(sql).setMaxRows(1).mapTo(String.class).list()).containsExactly("a");
+        assertThat(h.createQuery(sql).mapTo(String.class).list()).containsExactly("a", "b", "c");
+        assertThat(builder.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testResetsStatementSettings() {
+        String sql = "select name from something";
+        h.createQuery(sql)
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                    stmt.setLargeMaxRows(1);
+                    stmt.setQueryTimeout(5);
+                }
+            })
+            .mapTo(String.class)
+            .list();
+
+        List<Object> settings = new ArrayList<>();
+        h.createQuery(sql)
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                    settings.add(stmt.getLargeMaxRows());
+                    settings.add(stmt.getQueryTimeout());
+                }
+            })
+            .mapTo(String.class)
+            .list();
+
+        assertThat(builder.getHitCount()).isEqualTo(1);
+        assertThat(settings).containsExactly(0L, 0);
+    }
+
+    @Test
+    public void testSameSqlWhileInUse() {
+        h.execute("insert into something (id, name) values (1, 'a'), (2, 'b')");
+        String sql = "select name from something where id = :id";
+
+        try (ResultIterator<String> outer = h.createQuery(sql).bind("id", 1).mapTo(String.class).iterator()) {
+            List<String> inner = h.createQuery(sql).bind("id", 2).mapTo(String.class).list();
+            assertThat(inner).containsExactly("b");
+            assertThat(outer.next()).isEqualTo("a");
+        }
+
+        // the insert, the outer and the inner query
+        assertThat(builder.getMissCount()).isEqualTo(3);
+        assertThat(builder.getHitCount()).isZero();
+        assertThat(builder.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        h.createQuery("select 1").mapTo(Integer.class).one();
+        h.createQuery("select 2").mapTo(Integer.class).one();
+        h.createQuery("select 1").mapTo(Integer.class).one();
+        h.createQuery("select 3").mapTo(Integer.class).one();
+        h.createQuery("select 1").mapTo(Integer.class).one();
+        h.createQuery("select 2").mapTo(Integer.class).one();
+
+        assertThat(builder.getHitCount()).isEqualTo(2);
+        assertThat(builder.getMissCount()).isEqualTo(4);
+        assertThat(builder.getEvictionCount()).isEqualTo(2);
+        assertThat(builder.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testGeneratedKeysAreKeyedSeparately() {
+        String sql = "insert into something (id, name) values (:id, 'x')";
+        h.createUpdate(sql).bind("id", 1).execute();
+        h.createUpdate(sql).bind("id", 2).executeAndReturnGeneratedKeys("id").mapTo(Integer.class).one();
+
+        assertThat(builder.getMissCount()).isEqualTo(2);
+        assertThat(builder.getHitCount()).isZero();
+    }
+
+    @Test
+    public void testCloseConnectionClosesStatements() {
+        try (Handle handle = dbRule.getJdbi().open()) {
+            CachingStatementBuilder own = new CachingStatementBuilder();
+            handle.setStatementBuilder(own);
+            handle.createQuery("select 1").mapTo(Integer.class).one();
+            assertThat(own.size()).isEqualTo(1);
+            handle.close();
+            assertThat(own.size()).isZero();
+        }
+    }
+}
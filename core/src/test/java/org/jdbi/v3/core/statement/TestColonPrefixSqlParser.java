@@ -202,4 +202,43 @@ public class TestColonPrefixSqlParser {
                 .append(")")
                 .build());
     }
+
+    @Test
+    public void testUnterminatedQuoteIsLiteral() {
+        assertThat(parser.parse("select 'it :name", ctx))
+            .isEqualTo(ParsedSql.builder()
+                .append("select 'it ")
+                .appendNamedParameter("name")
+                .build());
+    }
+
+    @Test
+    public void testEscapedQuoteClosesQuoteAtEnd() {
+        assertThat(parser.parse("select 'a\\' from x where id = :id", ctx))
+            .isEqualTo(ParsedSql.builder()
+                .append("select 'a\\' from x where id = ")
+                .appendNamedParameter("id")
+                .build());
+    }
+
+    @Test
+    public void testUnterminatedCommentIsLiteral() {
+        assertThat(parser.parse("select 1 /* :id", ctx))
+            .isEqualTo(ParsedSql.builder()
+                .append("select 1 /* ")
+                .appendNamedParameter("id")
+                .build());
+    }
+
+    @Test
+    public void testNullSafeParameterName() {
+        assertThat(parser.parse("select :user?.name, :a??", ctx))
+            .isEqualTo(ParsedSql.builder()
+                .append("select ")
+                .appendNamedParameter("user?.name")
+                .append(", ")
+                .appendNamedParameter("a")
+                .append("??")
+                .build());
+    }
 }
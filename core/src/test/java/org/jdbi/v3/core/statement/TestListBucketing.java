@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestListBucketing {
+    @Test
+    public void testNone() {
+        assertThat(ListBucketing.none().bucketSize(7)).isEqualTo(7);
+    }
+
+    @Test
+    public void testPowersOfTwo() {
+        ListBucketing bucketing = ListBucketing.powersOfTwo();
+        assertThat(IntStream.of(1, 2, 3, 4, 5, 8, 9, 1000).map(bucketing::bucketSize))
+            .containsExactly(1, 2, 4, 4, 8, 8, 16, 1024);
+        assertThat(IntStream.rangeClosed(1, 1000).map(bucketing::bucketSize).distinct().count())
+            .isEqualTo(11);
+    }
+
+    @Test
+    public void testLadder() {
+        ListBucketing bucketing = ListBucketing.ladder(50, 10, 1, 100);
+        assertThat(IntStream.of(1, 2, 10, 11, 50, 51, 100, 101, 250).map(bucketing::bucketSize))
+            .containsExactly(1, 10, 10, 50, 50, 100, 100, 200, 300);
+    }
+
+    @Test
+    public void testLadderNeedsPositiveSizes() {
+        assertThatThrownBy(ListBucketing::ladder).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListBucketing.ladder(0, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestMultiRowInsert {
+    @Test
+    public void testRewrite() {
+        assertThat(MultiRowInsert.parse("insert into t (a, b) values (?, ?)", 2))
+            .map(insert -> insert.rewrite(3))
+            .hasValue("insert into t (a, b) values (?, ?), (?, ?), (?, ?)");
+    }
+
+    @Test
+    public void testKeepsSuffixAndLiterals() {
+        assertThat(MultiRowInsert.parse("INSERT INTO t VALUES (?, 'a?', lower(?)) ON CONFLICT DO NOTHING", 2))
+            .map(insert -> insert.rewrite(2))
+            .hasValue("INSERT INTO t VALUES (?, 'a?', lower(?)), (?, 'a?', lower(?)) ON CONFLICT DO NOTHING");
+    }
+
+    @Test
+    public void testRejectsOtherStatements() {
+        assertThat(MultiRowInsert.parse("update t set a = ? where b = ?", 2)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t select ? from dual", 1)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t values (?), (?)", 2)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t values (?) returning a, b", 1)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t (a) values (1)", 0)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t (a, b) values (?, now()) on conflict (a) do update set b = ?", 2)).isEmpty();
+    }
+
+    @Test
+    public void testRejectsUpserts() {
+        assertThat(MultiRowInsert.parse("insert into t (a, b) values (?, ?) on conflict (a) do update set b = excluded.b", 2)).isEmpty();
+        assertThat(MultiRowInsert.parse("INSERT INTO t (a) VALUES (?) ON CONFLICT ON CONSTRAINT t_pk DO UPDATE SET a = 1", 1)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t (a, b) values (?, ?) on duplicate key update b = values(b)", 2)).isEmpty();
+    }
+
+    @Test
+    public void testRejectsReturning() {
+        assertThat(MultiRowInsert.parse("insert into t (a) values (?) returning a", 1)).isEmpty();
+        assertThat(MultiRowInsert.parse("INSERT INTO t (a, b) VALUES (?, ?) RETURNING *", 2)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t (a) values (?) on conflict do nothing returning id", 1)).isEmpty();
+    }
+
+    @Test
+    public void testRejectsBackslashes() {
+        assertThat(MultiRowInsert.parse("insert into t (a, b, c) values (?, 'a\\', ?)", 2)).isEmpty();
+        assertThat(MultiRowInsert.parse("insert into t (a, b) values (?, 'C:\\')", 1)).isEmpty();
+    }
+}
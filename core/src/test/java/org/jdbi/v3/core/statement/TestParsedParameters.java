@@ -35,6 +35,18 @@ public class TestParsedParameters {
         assertThat(parameters.getParameterNames()).containsExactly("a", "b", "c");
     }
 
+    @Test
+    public void testRepeatedNamesShareSlot() {
+        final ParsedParameters parameters = ParsedParameters.named(Arrays.asList("a", "b", "a", "c", "b"));
+
+        assertThat(parameters.getSlotNames()).containsExactly("a", "b", "c");
+        assertThat(parameters.getSlot(0)).isEqualTo(0);
+        assertThat(parameters.getSlot(1)).isEqualTo(1);
+        assertThat(parameters.getSlot(2)).isEqualTo(0);
+        assertThat(parameters.getSlot(3)).isEqualTo(2);
+        assertThat(parameters.getSlot(4)).isEqualTo(1);
+    }
+
     @Test
     public void testFactoryNamedAndPositionalParametersMix() {
         assertThatThrownBy(() -> ParsedParameters.named(Arrays.asList("a", "b", "?")))
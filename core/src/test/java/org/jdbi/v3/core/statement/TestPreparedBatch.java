@@ -15,12 +15,18 @@ package org.jdbi.v3.core.statement;
 
 import java.beans.ConstructorProperties;
 import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
@@ -36,6 +42,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -92,6 +99,227 @@ public class TestPreparedBatch {
         assertThat(rowCount).isEqualTo(count);
     }
 
+    @Test
+    public void testAddAllStreamsRows() {
+        int count = PreparedBatch.DEFAULT_FLUSH_SIZE * 2 + 10;
+        Iterable<Integer> ids = () -> IntStream.range(0, count).iterator();
+
+        int[] updateCounts = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .addAll(ids, BatchBinder.<Integer>create()
+                .bind("id", int.class, i -> i)
+                .bind("name", String.class, i -> "name" + i))
+            .execute();
+
+        assertThat(updateCounts).hasSize(count).containsOnly(1);
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(count);
+        assertThat(h.createQuery("select name from something where id = 2009").mapTo(String.class).one()).isEqualTo("name2009");
+    }
+
+    @Test
+    public void testAddAllKeepsOrderWithBindings() {
+        List<Something> rows = ImmutableList.of(new Something(2, "Brian"), new Something(3, "Keith"));
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)");
+        b.add(1, "Eric");
+        b.addAll(rows, BatchBinder.<Something>create()
+            .bind(0, int.class, Something::getId)
+            .bind(1, String.class, Something::getName));
+        b.add(4, null);
+
+        assertThat(b.execute()).containsExactly(1, 1, 1, 1);
+        assertThat(h.createQuery("select id, name from something order by id").mapToBean(Something.class).list())
+            .extracting(Something::getId, Something::getName)
+            .containsExactly(tuple(1, "Eric"), tuple(2, "Brian"), tuple(3, "Keith"), tuple(4, null));
+    }
+
+    @Test
+    public void testAddAllMissingParameter() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .addAll(ImmutableList.of(1), BatchBinder.<Integer>create().bind("id", int.class, i -> i));
+
+        assertThatThrownBy(b::execute)
+            .isInstanceOf(UnableToCreateStatementException.class)
+            .hasMessageContaining("Missing named parameter 'name'");
+    }
+
+    @Test
+    public void testAddAllSuperfluousParameter() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)")
+            .addAll(ImmutableList.of(1), BatchBinder.<Integer>create()
+                .bind(0, int.class, i -> i)
+                .bind(1, String.class, String::valueOf)
+                .bind(3, String.class, String::valueOf));
+
+        assertThatThrownBy(b::execute)
+            .isInstanceOf(UnableToCreateStatementException.class)
+            .hasMessageContaining("Superfluous positional param at (0 based) position 3");
+    }
+
+    @Test
+    public void testAddAllSuperfluousNamedParameter() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .addAll(ImmutableList.of(1), BatchBinder.<Integer>create()
+                .bind("id", int.class, i -> i)
+                .bind("name", String.class, String::valueOf)
+                .bind("extra", String.class, String::valueOf));
+
+        assertThatThrownBy(b::execute)
+            .isInstanceOf(UnableToCreateStatementException.class)
+            .hasMessageContaining("Superfluous named parameters provided: '[extra]'");
+    }
+
+    @Test
+    public void testAddAllFailureDescribesRow() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .bind("id", 1).bind("name", "Eric").add()
+            .addAll(ImmutableList.of(2, 2), BatchBinder.<Integer>create()
+                .bind("id", int.class, i -> i)
+                .bind("name", String.class, i -> "name" + i));
+
+        assertThatThrownBy(b::execute)
+            .isInstanceOf(UnableToExecuteStatementException.class)
+            .hasMessageContaining("named:{id:2,name:name2}");
+    }
+
+    @Test
+    public void testChunkSize() {
+        AtomicInteger executions = new AtomicInteger();
+        h.getConfig(SqlStatements.class).setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                executions.incrementAndGet();
+            }
+        });
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").chunkSize(2);
+        for (int i = 0; i < 5; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+
+        assertThat(b.execute()).containsExactly(1, 1, 1, 1, 1);
+        assertThat(executions).hasValue(3);
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(5);
+    }
+
+    @Test
+    public void testChunkSizeWithAddAll() {
+        AtomicInteger executions = new AtomicInteger();
+        h.getConfig(SqlStatements.class).setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                executions.incrementAndGet();
+            }
+        });
+
+        int[] counts = h.prepareBatch("insert into something (id, name) values (?, ?)")
+            .chunkSize(4)
+            .add(0, "zero")
+            .addAll(ImmutableList.of(1, 2, 3, 4, 5, 6), BatchBinder.<Integer>create()
+                .bind(0, int.class, i -> i)
+                .bind(1, String.class, String::valueOf))
+            .execute();
+
+        assertThat(counts).hasSize(7).containsOnly(1);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void testMultiRowInserts() {
+        AtomicInteger executions = new AtomicInteger();
+        h.getConfig(SqlStatements.class).setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                executions.incrementAndGet();
+            }
+        });
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").multiRowInserts(20);
+        for (int i = 0; i < 20; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+        b.addAll(ImmutableList.of(20, 21, 22, 23, 24), BatchBinder.<Integer>create()
+            .bind("id", int.class, i -> i)
+            .bind("name", String.class, i -> "name" + i));
+
+        assertThat(b.execute()).hasSize(25).containsOnly(1);
+        // two statements of ten rows in one batch, then the remaining five rows on the original statement
+        assertThat(executions).hasValue(2);
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .hasSize(25)
+            .startsWith("name0", "name1")
+            .endsWith("name23", "name24");
+    }
+
+    @Test
+    public void testMultiRowInsertsRunCustomizers() {
+        List<PreparedStatement> bound = new ArrayList<>();
+        List<PreparedStatement> executed = new ArrayList<>();
+        List<PreparedStatement> finished = new ArrayList<>();
+        h.addCustomizer(new StatementCustomizer() {
+            @Override
+            public void beforeBinding(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                stmt.setQueryTimeout(7);
+                bound.add(stmt);
+            }
+
+            @Override
+            public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                assertThat(stmt.getQueryTimeout()).isEqualTo(7);
+                executed.add(stmt);
+            }
+
+            @Override
+            public void afterExecution(PreparedStatement stmt, StatementContext ctx) {
+                finished.add(stmt);
+            }
+        });
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").multiRowInserts(20);
+        for (int i = 0; i < 25; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+        b.execute();
+
+        assertThat(bound).hasSize(2).doesNotHaveDuplicates();
+        assertThat(executed).containsExactlyInAnyOrderElementsOf(bound);
+        assertThat(finished).containsExactlyInAnyOrderElementsOf(bound);
+    }
+
+    @Test
+    public void testMultiRowInsertsPrepareRewrittenStatementOnlyForFullGroups() {
+        List<String> prepared = new ArrayList<>();
+        h.setStatementBuilder(new DefaultStatementBuilder() {
+            @Override
+            public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+                prepared.add(sql);
+                return super.create(conn, sql, ctx);
+            }
+        });
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").multiRowInserts(20);
+        for (int i = 0; i < 9; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+
+        assertThat(b.execute()).hasSize(9).containsOnly(1);
+        assertThat(prepared).containsExactly("insert into something (id, name) values (?, ?)");
+    }
+
+    @Test
+    public void testMultiRowInsertsLeavesOtherStatements() {
+        h.execute("insert into something (id, name) values (1, 'one'), (2, 'two')");
+
+        int[] counts = h.prepareBatch("update something set name = :name where id = :id")
+            .multiRowInserts()
+            .bind("id", 1).bind("name", "uno").add()
+            .bind("id", 2).bind("name", "dos").add()
+            .execute();
+
+        assertThat(counts).containsExactly(1, 1);
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("uno", "dos");
+    }
+
     @Test
     public void testBindProperties() {
         PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)");
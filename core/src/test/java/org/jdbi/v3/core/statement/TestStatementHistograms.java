@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Map;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.StatementHistograms.Snapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestStatementHistograms {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private StatementHistograms histograms;
+
+    @Before
+    public void setUp() {
+        histograms = new StatementHistograms();
+        dbRule.getJdbi().getConfig(SqlStatements.class).setStatementMetrics(histograms);
+    }
+
+    @Test
+    public void testPhasesOfQuery() {
+        String insert = "insert into something (id, name) values (:id, :name)";
+        String select = "select name from something where id < :id order by id";
+        try (Handle h = dbRule.openHandle()) {
+            h.createUpdate(insert).bind("id", 1).bind("name", "eric").execute();
+            h.createUpdate(insert).bind("id", 2).bind("name", "brian").execute();
+            assertThat(h.createQuery(select).bind("id", 3).mapTo(String.class).list()).containsExactly("eric", "brian");
+        }
+
+        Map<String, Map<StatementPhase, Snapshot>> snapshot = histograms.snapshot();
+
+        assertThat(snapshot.get(insert).get(StatementPhase.EXECUTE).getCount()).isEqualTo(2);
+        assertThat(snapshot.get(insert)).containsOnlyKeys(
+            StatementPhase.RENDER, StatementPhase.PARSE, StatementPhase.CREATE,
+            StatementPhase.BIND, StatementPhase.EXECUTE, StatementPhase.CLOSE);
+        assertThat(snapshot.get(select)).containsKeys(StatementPhase.FIRST_ROW, StatementPhase.MAPPING);
+        assertThat(snapshot.get(select).get(StatementPhase.MAPPING).getCount()).isEqualTo(1);
+        assertThat(snapshot.get(select).get(StatementPhase.CLOSE).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNothingRecordedWithoutMetrics() {
+        dbRule.getJdbi().getConfig(SqlStatements.class).setStatementMetrics(null);
+        try (Handle h = dbRule.openHandle()) {
+            h.execute("insert into something (id, name) values (1, 'eric')");
+        }
+
+        assertThat(histograms.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void testOtherStatements() {
+        StatementHistograms limited = new StatementHistograms(1);
+        StatementContext ctx = new StatementContext();
+        ctx.setRenderedSql("select 1");
+        limited.record(ctx, StatementPhase.EXECUTE, 10);
+        ctx.setRenderedSql("select 2");
+        limited.record(ctx, StatementPhase.EXECUTE, 20);
+
+        assertThat(limited.snapshot()).containsOnlyKeys("select 1", StatementHistograms.OTHER_STATEMENTS);
+    }
+
+    @Test
+    public void testPercentiles() {
+        StatementContext ctx = new StatementContext();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histograms.record(ctx, StatementPhase.EXECUTE, nanos * 1000);
+        }
+
+        Snapshot snapshot = histograms.snapshot().get("").get(StatementPhase.EXECUTE);
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMinNanos()).isEqualTo(1000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(1_000_000);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(500_500, within(0.1));
+        assertThat(snapshot.getValueAtPercentile(50)).isBetween(500_000L, 562_500L);
+        assertThat(snapshot.getValueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    public void testBucketBounds() {
+        for (long nanos : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, 1L << 40}) {
+            int bucket = StatementHistograms.bucketOf(nanos);
+            assertThat(StatementHistograms.upperBoundOf(bucket)).isGreaterThanOrEqualTo(nanos);
+            assertThat(StatementHistograms.upperBoundOf(bucket)).isLessThanOrEqualTo(nanos + nanos / 8);
+            assertThat(bucket == 0 || StatementHistograms.upperBoundOf(bucket - 1) < nanos).isTrue();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestStreamingQuery {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        for (int i = 0; i < 10; i++) {
+            h.execute("insert into something (id, name) values (?, ?)", i, "name" + i);
+        }
+    }
+
+    @Test
+    public void testStreaming() {
+        try (Stream<Integer> ids = h.createQuery("select id from something order by id")
+                .streaming(3)
+                .mapTo(Integer.class)
+                .stream()) {
+            assertThat(ids).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+        assertThat(h.isInTransaction()).isFalse();
+    }
+
+    @Test
+    public void testPostgresWithoutHandleOnlySetsFetchSize() throws Exception {
+        Connection conn = mockConnection("PostgreSQL", true);
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(stmt.getConnection()).thenReturn(conn);
+        StatementContext ctx = StatementContextAccess.createContext();
+
+        StatementCustomizers.streaming(100, null).beforeExecution(stmt, ctx);
+        ctx.close();
+
+        verify(stmt).setFetchSize(100);
+        verify(conn, never()).setAutoCommit(false);
+        verify(conn, never()).setReadOnly(true);
+    }
+
+    @Test
+    public void testMySqlStreamsRowByRow() throws Exception {
+        Connection conn = mockConnection("MySQL", true);
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(stmt.getConnection()).thenReturn(conn);
+
+        StatementCustomizers.streaming(100, null).beforeExecution(stmt, StatementContextAccess.createContext());
+
+        verify(stmt).setFetchSize(Integer.MIN_VALUE);
+        verify(conn, never()).setAutoCommit(false);
+    }
+
+    @Test
+    public void testMariaDbUsesFetchSize() throws Exception {
+        Connection conn = mockConnection("MariaDB", true);
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        when(stmt.getConnection()).thenReturn(conn);
+
+        StatementCustomizers.streaming(100, null).beforeExecution(stmt, StatementContextAccess.createContext());
+
+        verify(stmt).setFetchSize(100);
+        verify(conn, never()).setAutoCommit(false);
+    }
+
+    @Test
+    public void testIteratorCloseReleasesResources() {
+        ResultIterator<String> names = h.createQuery("select name from something order by id")
+                .streaming()
+                .mapTo(String.class)
+                .iterator();
+
+        assertThat(names.next()).isEqualTo("name0");
+        names.close();
+
+        assertThat(names.hasNext()).isFalse();
+        assertThat(h.isInTransaction()).isFalse();
+    }
+
+    private static Connection mockConnection(String product, boolean autoCommit) throws Exception {
+        Connection conn = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(conn.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+        when(conn.getAutoCommit()).thenReturn(autoCommit);
+        return conn;
+    }
+}
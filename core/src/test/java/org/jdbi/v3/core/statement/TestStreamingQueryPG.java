@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.PgDatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestStreamingQueryPG {
+    @Rule
+    public PgDatabaseRule dbRule = new PgDatabaseRule();
+
+    private Handle h;
+
+    @Before
+    public void openHandle() {
+        h = dbRule.openHandle();
+        h.execute("create table something (id int primary key, name varchar not null)");
+        h.execute("insert into something (id, name) select i, 'name' || i from generate_series(0, 99) i");
+    }
+
+    @After
+    public void closeHandle() {
+        h.close();
+    }
+
+    @Test
+    public void testStreamsInReadOnlyTransaction() throws Exception {
+        try (ResultIterator<Integer> ids = h.createQuery("select id from something order by id")
+                .streaming(10)
+                .mapTo(Integer.class)
+                .iterator()) {
+            assertThat(ids.next()).isZero();
+            assertThat(h.isInTransaction()).isTrue();
+            assertThat(h.isReadOnly()).isTrue();
+            assertThat(h.createQuery("select current_setting('transaction_read_only')").mapTo(String.class).one())
+                .isEqualTo("on");
+            assertThatThrownBy(() -> h.execute("insert into something (id, name) values (100, 'written')"))
+                .isInstanceOf(UnableToExecuteStatementException.class);
+        }
+
+        assertThat(h.isInTransaction()).isFalse();
+        assertThat(h.isReadOnly()).isFalse();
+        assertThat(h.getConnection().getAutoCommit()).isTrue();
+    }
+
+    @Test
+    public void testFailedIterationRollsBack() {
+        assertThatThrownBy(() -> {
+            try (Stream<Object> ids = h.createQuery("select id from something order by id")
+                    .streaming(10)
+                    .map((rs, ctx) -> {
+                        throw new IllegalStateException("boom");
+                    })
+                    .stream()) {
+                ids.forEach(id -> {});
+            }
+        }).hasMessage("boom");
+
+        assertThat(h.isInTransaction()).isFalse();
+        assertThat(h.isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void testKeepsExistingTransaction() {
+        h.useTransaction(th -> {
+            try (Stream<Integer> ids = th.createQuery("select id from something order by id")
+                    .streaming(10)
+                    .mapTo(Integer.class)
+                    .stream()) {
+                assertThat(ids).hasSize(100);
+            }
+            assertThat(th.isInTransaction()).isTrue();
+            assertThat(th.isReadOnly()).isFalse();
+        });
+    }
+
+    @Test
+    public void testClosingHandleFirstEndsTransaction() {
+        Handle other = dbRule.openHandle();
+        ResultIterator<Integer> ids = other.createQuery("select id from something order by id")
+            .streaming(10)
+            .mapTo(Integer.class)
+            .iterator();
+        assertThat(ids.next()).isZero();
+
+        assertThatCode(other::close).doesNotThrowAnyException();
+        assertThat(other.isClosed()).isTrue();
+        assertThatCode(ids::close).doesNotThrowAnyException();
+    }
+}
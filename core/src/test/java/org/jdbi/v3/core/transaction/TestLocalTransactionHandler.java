@@ -69,4 +69,17 @@ public class TestLocalTransactionHandler {
             }))
             .isSameAs(error);
     }
+
+    @Test
+    public void testStateIsKeptPerHandle() throws Exception {
+        Handle other = Mockito.mock(Handle.class);
+        Mockito.when(h.getConnection()).thenReturn(c);
+        Mockito.when(other.getConnection()).thenReturn(c);
+
+        LocalTransactionHandler handler = new LocalTransactionHandler();
+        TransactionHandler bound = handler.nonspecial(h);
+
+        assertThat(handler.nonspecial(h)).isSameAs(bound);
+        assertThat(handler.nonspecial(other)).isNotSameAs(bound);
+    }
 }
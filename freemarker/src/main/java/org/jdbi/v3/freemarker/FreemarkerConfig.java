@@ -13,24 +13,34 @@
  */
 package org.jdbi.v3.freemarker;
 
+import java.io.IOException;
+import java.util.Objects;
 import java.util.Optional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 public class FreemarkerConfig implements JdbiConfig<FreemarkerConfig> {
 
     private Configuration freemarkerConfiguration;
+    private Cache<TemplateKey, Template> templateCache;
 
     public FreemarkerConfig() {
         freemarkerConfiguration = new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
         freemarkerConfiguration.setTemplateLoader(new ClassTemplateLoader(selectClassLoader(), "/"));
         freemarkerConfiguration.setNumberFormat("computer");
+        templateCache = Caffeine.newBuilder().maximumSize(1_000).recordStats().build();
     }
 
     private FreemarkerConfig(FreemarkerConfig other) {
         this.freemarkerConfiguration = other.freemarkerConfiguration;
+        this.templateCache = other.templateCache;
     }
 
     public FreemarkerConfig setFreemarkerConfiguration(Configuration freemarkerConfiguration) {
@@ -42,10 +52,59 @@ public class FreemarkerConfig implements JdbiConfig<FreemarkerConfig> {
         return freemarkerConfiguration;
     }
 
+    /**
+     * Sets the Caffeine cache used to keep compiled templates. Templates are cached by their source or path
+     * together with the Freemarker configuration they were compiled with, and the cache is shared by all
+     * copies of this config.
+     * @param caffeineSpec the cache builder to use to cache compiled templates
+     * @return this
+     */
+    @Beta
+    public FreemarkerConfig setTemplateCache(Caffeine<Object, Object> caffeineSpec) {
+        templateCache = caffeineSpec.build();
+        return this;
+    }
+
+    /**
+     * @return the statistics of the compiled template cache; empty if the cache does not record them
+     */
+    @Beta
+    public CacheStats getTemplateCacheStats() {
+        return templateCache.stats();
+    }
+
     public FreemarkerSqlLocator createLocator() {
         return new FreemarkerSqlLocator(this);
     }
 
+    /**
+     * Compiles a template from its source, or returns the template compiled before from the same source
+     * and Freemarker configuration.
+     * @param source the template source
+     * @return the compiled template
+     */
+    @Beta
+    public Template getTemplate(String source) {
+        return templateCache.get(new TemplateKey(freemarkerConfiguration, false, source), key -> {
+            try {
+                return new Template(null, source, key.configuration);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to process template: " + source, e);
+            }
+        });
+    }
+
+    // templates loaded by path from the template loader of the Freemarker configuration
+    Template loadTemplate(String path) {
+        return templateCache.get(new TemplateKey(freemarkerConfiguration, true, path), key -> {
+            try {
+                return key.configuration.getTemplate(path);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load Freemarker template " + path, e);
+            }
+        });
+    }
+
     @Override
     public FreemarkerConfig createCopy() {
         return new FreemarkerConfig(this);
@@ -55,4 +114,36 @@ public class FreemarkerConfig implements JdbiConfig<FreemarkerConfig> {
         return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
             .orElseGet(FreemarkerConfig.class::getClassLoader);
     }
+
+    private static final class TemplateKey {
+        private final Configuration configuration;
+        private final boolean path;
+        private final String template;
+
+        TemplateKey(Configuration configuration, boolean path, String template) {
+            this.configuration = configuration;
+            this.path = path;
+            this.template = template;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            // configurations do not implement equals, a template belongs to one configuration instance
+            return configuration.equals(that.configuration)
+                && path == that.path
+                && template.equals(that.template);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(configuration, path, template);
+        }
+    }
 }
@@ -14,36 +14,33 @@
 package org.jdbi.v3.freemarker;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Optional;
 import java.util.function.Function;
 
-import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
+import org.jdbi.v3.freemarker.internal.TemplateRenderer;
 
 /**
  * Rewrites a Freemarker template, using the attributes on the {@link StatementContext} as template parameters.
+ * <p>
+ * Templates are compiled once per Freemarker configuration and kept in the template cache of {@link FreemarkerConfig};
+ * each statement renders with the Freemarker configuration of its own {@link FreemarkerConfig}.
  */
 public class FreemarkerEngine implements TemplateEngine.Parsing {
     @Override
     public Optional<Function<StatementContext, String>> parse(String sqlTemplate, ConfigRegistry config) {
-        try {
-            Template template = new Template(null, sqlTemplate,
-                    config.get(FreemarkerConfig.class).getFreemarkerConfiguration());
-            return Optional.of(ctx -> {
-                try {
-                    StringWriter writer = new StringWriter();
-                    template.process(ctx.getAttributes(), writer);
-                    return writer.toString();
-                } catch (IOException | TemplateException e) {
-                    throw new IllegalStateException("Failed to render template: " + sqlTemplate, e);
-                }
-            });
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to process template: " + sqlTemplate, e);
-        }
+        TemplateRenderer renderer = new TemplateRenderer(freemarkerConfig -> freemarkerConfig.getTemplate(sqlTemplate));
+        // compile now, so broken templates fail while parsing
+        renderer.template(config.get(FreemarkerConfig.class));
+        return Optional.of(ctx -> {
+            try {
+                return renderer.render(ctx.getConfig(FreemarkerConfig.class), ctx.getAttributes());
+            } catch (IOException | TemplateException e) {
+                throw new IllegalStateException("Failed to render template: " + sqlTemplate, e);
+            }
+        });
     }
 }
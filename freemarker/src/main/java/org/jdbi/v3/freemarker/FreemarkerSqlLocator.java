@@ -78,7 +78,7 @@ public class FreemarkerSqlLocator {
             .build();
 
         try {
-            return config.getFreemarkerConfiguration().getTemplate(path);
+            return config.loadTemplate(path);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to load Freemarker template " + templateName + " in " + path, e);
         }
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.freemarker.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import org.jdbi.v3.freemarker.FreemarkerConfig;
+
+/**
+ * Renders one template with the Freemarker configuration of each statement. Parsed templates are cached per
+ * template engine and shared by statements with different {@link FreemarkerConfig}s, so the template is
+ * looked up again whenever the configuration differs from the one it was last found with.
+ * <p>
+ * Templates are rendered into a {@link StringBuilder} which is kept between calls. A renderer keeps one spare
+ * buffer: a call takes it if it is free and returns it afterwards, so sequential renders reuse the same
+ * buffer and concurrent renders fall back to a fresh one instead of waiting.
+ */
+public final class TemplateRenderer {
+    // buffers which grew beyond this are dropped instead of being kept for the next call
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final Function<FreemarkerConfig, Template> lookup;
+    private final AtomicReference<StringBuilderWriter> spare = new AtomicReference<>();
+    private volatile Located located;
+
+    public TemplateRenderer(Function<FreemarkerConfig, Template> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * @param config the Freemarker config of the statement
+     * @return the template for the Freemarker configuration of the given config
+     */
+    public Template template(FreemarkerConfig config) {
+        Configuration configuration = config.getFreemarkerConfiguration();
+        Located last = located;
+        // configurations do not implement equals, a template belongs to one configuration instance
+        if (last != null && last.configuration.equals(configuration)) {
+            return last.template;
+        }
+        Template template = lookup.apply(config);
+        located = new Located(configuration, template);
+        return template;
+    }
+
+    public String render(FreemarkerConfig config, Object dataModel) throws IOException, TemplateException {
+        Template template = template(config);
+        StringBuilderWriter writer = spare.getAndSet(null);
+        if (writer == null) {
+            writer = new StringBuilderWriter();
+        }
+        try {
+            template.process(dataModel, writer);
+            return writer.toString();
+        } finally {
+            if (writer.reset() <= MAX_RETAINED_CAPACITY) {
+                spare.set(writer);
+            }
+        }
+    }
+
+    private static final class Located {
+        private final Configuration configuration;
+        private final Template template;
+
+        Located(Configuration configuration, Template template) {
+            this.configuration = configuration;
+            this.template = template;
+        }
+    }
+
+    private static final class StringBuilderWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder(256);
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            buffer.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            buffer.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        // empties the buffer and returns its capacity
+        int reset() {
+            buffer.setLength(0);
+            return buffer.capacity();
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
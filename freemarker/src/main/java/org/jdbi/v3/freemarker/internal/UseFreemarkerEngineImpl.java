@@ -22,9 +22,12 @@ import org.jdbi.v3.freemarker.FreemarkerEngine;
 import org.jdbi.v3.sqlobject.config.Configurer;
 
 public class UseFreemarkerEngineImpl implements Configurer {
+    // the engine is stateless; sharing it lets all sql objects share the parsed templates
+    private static final FreemarkerEngine ENGINE = new FreemarkerEngine();
+
     @Override
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
-        registry.get(SqlStatements.class).setTemplateEngine(new FreemarkerEngine());
+        registry.get(SqlStatements.class).setTemplateEngine(ENGINE);
     }
 
     @Override
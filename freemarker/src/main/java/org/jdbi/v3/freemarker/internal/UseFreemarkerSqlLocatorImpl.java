@@ -14,14 +14,16 @@
 package org.jdbi.v3.freemarker.internal;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
-import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.jdbi.v3.freemarker.FreemarkerConfig;
 import org.jdbi.v3.sqlobject.SqlObjects;
@@ -29,31 +31,60 @@ import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.internal.SqlAnnotations;
 import org.jdbi.v3.sqlobject.locator.SqlLocator;
 
-import static org.jdbi.v3.freemarker.FreemarkerSqlLocator.findTemplate;
-
 public class UseFreemarkerSqlLocatorImpl implements Configurer {
     @Override
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
         SqlLocator locator = (type, method, config) ->
                 SqlAnnotations.getAnnotationValue(method).orElseGet(method::getName);
-        TemplateEngine templateEngine = (templateName, ctx) -> {
-            Template template = findTemplate(
-                    ctx.getConfig(FreemarkerConfig.class).getFreemarkerConfiguration(),
-                    sqlObjectType, templateName);
-            StringWriter writer = new StringWriter();
-            try {
-                template.process(ctx.getAttributes(), writer);
-                return writer.toString();
-            } catch (TemplateException | IOException e) {
-                throw new IllegalStateException("Failed to render template " + templateName, e);
-            }
-        };
         registry.get(SqlObjects.class).setSqlLocator(locator);
-        registry.get(SqlStatements.class).setTemplateEngine(templateEngine);
+        registry.get(SqlStatements.class).setTemplateEngine(new LocatingTemplateEngine(sqlObjectType));
     }
 
     @Override
     public void configureForMethod(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType, Method method) {
         configureForType(registry, annotation, sqlObjectType);
     }
+
+    /**
+     * Renders templates by name from the {@code .sql.ftl} files of a sql object type. Engines for the same type
+     * are equal, so the templates they locate are cached once per type rather than once per configured sql object;
+     * each statement renders the file as loaded by the Freemarker configuration of its own {@link FreemarkerConfig}.
+     */
+    private static final class LocatingTemplateEngine implements TemplateEngine.Parsing {
+        private final Class<?> sqlObjectType;
+
+        LocatingTemplateEngine(Class<?> sqlObjectType) {
+            this.sqlObjectType = sqlObjectType;
+        }
+
+        @Override
+        public Optional<Function<StatementContext, String>> parse(String templateName, ConfigRegistry config) {
+            TemplateRenderer renderer = new TemplateRenderer(freemarkerConfig ->
+                freemarkerConfig.createLocator().locate(sqlObjectType, templateName));
+            renderer.template(config.get(FreemarkerConfig.class));
+            return Optional.of(ctx -> {
+                try {
+                    return renderer.render(ctx.getConfig(FreemarkerConfig.class), ctx.getAttributes());
+                } catch (TemplateException | IOException e) {
+                    throw new IllegalStateException("Failed to render template " + templateName, e);
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return sqlObjectType.equals(((LocatingTemplateEngine) o).sqlObjectType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(LocatingTemplateEngine.class, sqlObjectType);
+        }
+    }
 }
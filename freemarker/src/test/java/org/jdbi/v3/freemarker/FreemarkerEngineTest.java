@@ -17,6 +17,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateModelException;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
@@ -86,6 +89,53 @@ public class FreemarkerEngineTest {
         assertThat(s).containsExactly("Jack");
     }
 
+    @Test
+    public void testTemplateIsCompiledOncePerConfiguration() {
+        FreemarkerConfig config = handle.getConfig(FreemarkerConfig.class);
+        Template template = config.getTemplate("select ${id}");
+
+        assertThat(config.getTemplate("select ${id}")).isSameAs(template);
+        assertThat(config.createCopy().getTemplate("select ${id}")).isSameAs(template);
+
+        config.setFreemarkerConfiguration(new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS));
+        assertThat(config.getTemplate("select ${id}")).isNotSameAs(template);
+    }
+
+    @Test
+    public void testRenderingReusesCompiledTemplate() {
+        FreemarkerConfig config = dbRule.getJdbi().getConfig(FreemarkerConfig.class);
+        handle.execute("insert into something (id, name) values (6, 'Jack')");
+        handle.execute("insert into something (id, name) values (7, 'Wolf')");
+
+        assertThat(handle.attach(Wombat.class).findByDefinedId(6L).getName()).isEqualTo("Jack");
+        assertThat(handle.attach(Wombat.class).findByDefinedId(7L).getName()).isEqualTo("Wolf");
+        String name = dbRule.getJdbi().withHandle(h -> h.attach(Wombat.class).findByDefinedId(6L).getName());
+        assertThat(name).isEqualTo("Jack");
+
+        assertThat(config.getTemplateCacheStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEachHandleRendersWithItsOwnConfiguration() throws Exception {
+        handle.execute("insert into something (id, name) values (6, 'Jack')");
+        FreemarkerEngine engine = new FreemarkerEngine();
+
+        try (Handle names = dbRule.getJdbi().open(); Handle ids = dbRule.getJdbi().open()) {
+            names.setTemplateEngine(engine).getConfig(FreemarkerConfig.class).setFreemarkerConfiguration(selecting("name"));
+            ids.setTemplateEngine(engine).getConfig(FreemarkerConfig.class).setFreemarkerConfiguration(selecting("id"));
+
+            assertThat(names.createQuery("select ${column} from something").mapTo(String.class).one()).isEqualTo("Jack");
+            assertThat(ids.createQuery("select ${column} from something").mapTo(String.class).one()).isEqualTo("6");
+            assertThat(names.createQuery("select ${column} from something").mapTo(String.class).one()).isEqualTo("Jack");
+        }
+    }
+
+    private static Configuration selecting(String column) throws TemplateModelException {
+        Configuration configuration = new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
+        configuration.setSharedVariable("column", column);
+        return configuration;
+    }
+
     @UseFreemarkerEngine
     @RegisterRowMapper(SomethingMapper.class)
     public interface Wombat {
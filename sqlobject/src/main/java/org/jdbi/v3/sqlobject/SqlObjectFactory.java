@@ -17,7 +17,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,10 +41,10 @@ import org.jdbi.v3.core.extension.ExtensionFactory;
 import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.internal.OnDemandExtensions;
+import org.jdbi.v3.core.internal.OnDemandExtensions.HandleScope;
 import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
 import org.jdbi.v3.sqlobject.internal.SqlObjectInitData;
-import org.jdbi.v3.sqlobject.internal.SqlObjectInitData.InContextInvoker;
 
 /**
  * Creates implementations for SqlObject interfaces.
@@ -103,22 +102,18 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
         }
         instanceConfig.get(Extensions.class).onCreateProxy();
 
-        Map<Method, Supplier<InContextInvoker>> handlers = new HashMap<>();
-        final Object proxy = Proxy.newProxyInstance(
-                extensionType.getClassLoader(),
-                new Class[] {extensionType},
-                (p, m, a) -> handlers.get(m).get().invoke(a));
-
-        data.forEachMethodHandler((m, h) ->
-                handlers.put(m, data.lazyInvoker(proxy, m, handle, instanceConfig)));
-        return extensionType.cast(proxy);
+        return data.createProxy(extensionType, handle, instanceConfig);
     }
 
     @Override
     public Optional<Object> onDemand(Jdbi db, Class<?> extensionType, Class<?>... extraTypes) {
+        if (!accepts(extensionType)) {
+            return Optional.empty();
+        }
         SqlObjectInitData data = sqlObjectCache.get(extensionType, db);
         if (!data.isConcrete()) {
-            return Optional.empty();
+            return db.getConfig(OnDemandExtensions.class).getHandleScope()
+                .map(scope -> createOnDemandProxy(db, data, scope, extensionType, extraTypes));
         }
         try {
             return Optional.of(Class.forName(
@@ -130,6 +125,13 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
         }
     }
 
+    // bound once to the handle scope, which stands for the handle supplier of each call
+    private static Object createOnDemandProxy(Jdbi db, SqlObjectInitData data, HandleScope scope, Class<?> extensionType, Class<?>... extraTypes) {
+        db.getConfig(Extensions.class).onCreateProxy();
+
+        return data.createOnDemandProxy(extensionType, scope, extraTypes);
+    }
+
     private static Map<Method, Handler> buildMethodHandlers(
             Class<?> sqlObjectType,
             Handlers registry,
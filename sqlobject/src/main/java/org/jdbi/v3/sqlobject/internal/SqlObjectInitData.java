@@ -13,19 +13,25 @@
  */
 package org.jdbi.v3.sqlobject.internal;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.internal.Invocations;
 import org.jdbi.v3.core.internal.MemoizingSupplier;
+import org.jdbi.v3.core.internal.OnDemandExtensions.HandleScope;
+import org.jdbi.v3.core.internal.OnDemandHandleSupplier;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.sqlobject.GenerateSqlObject;
 import org.jdbi.v3.sqlobject.Handler;
@@ -39,8 +45,13 @@ public final class SqlObjectInitData {
     private final boolean concrete;
     private final Class<?> extensionType;
     private final UnaryOperator<ConfigRegistry> instanceConfigurer;
-    private final Map<Method, UnaryOperator<ConfigRegistry>> methodConfigurers;
     private final Map<Method, Handler> methodHandlers;
+    // the handler table shared by all proxies of this type: methods by index, with their handlers and configurers
+    private final Map<Method, Integer> methodIndex = new HashMap<>();
+    private final ExtensionMethod[] extensionMethods;
+    private final Handler[] handlers;
+    private final UnaryOperator<ConfigRegistry>[] configurers;
+    private volatile Constructor<?> implementationConstructor;
 
     public SqlObjectInitData(
             Class<?> extensionType,
@@ -50,8 +61,21 @@ public final class SqlObjectInitData {
         concrete = isConcrete(extensionType);
         this.extensionType = extensionType;
         this.instanceConfigurer = instanceConfigurer;
-        this.methodConfigurers = methodConfigurers;
         this.methodHandlers = methodHandlers;
+
+        int size = methodHandlers.size();
+        extensionMethods = new ExtensionMethod[size];
+        handlers = new Handler[size];
+        @SuppressWarnings("unchecked")
+        UnaryOperator<ConfigRegistry>[] methodConfigurerTable = new UnaryOperator[size];
+        configurers = methodConfigurerTable;
+        methodHandlers.forEach((method, handler) -> {
+            int index = methodIndex.size();
+            methodIndex.put(method, index);
+            extensionMethods[index] = new ExtensionMethod(extensionType, method);
+            handlers[index] = handler;
+            configurers[index] = methodConfigurers.get(method);
+        });
     }
 
     public static boolean isConcrete(Class<?> extensionType) {
@@ -102,16 +126,24 @@ public final class SqlObjectInitData {
             throw new IllegalArgumentException("mismatch extension type");
         }
         try {
-            return Invocations.invokeWith(SqlObjectInitData.INIT_DATA, this, () ->
-                passExtensionType.cast(
-                    Class.forName(extensionType.getPackage().getName() + "." + extensionType.getSimpleName() + "Impl")
-                        .getConstructor(HandleSupplier.class, ConfigRegistry.class)
-                        .newInstance(handle, instanceConfig)));
+            return passExtensionType.cast(implementationConstructor().newInstance(handle, instanceConfig));
         } catch (Exception | ExceptionInInitializerError e) {
             throw new UnableToCreateSqlObjectException(e);
         }
     }
 
+    // the generated class reads its init data while it is initialized, so INIT_DATA is only set while loading it
+    private Constructor<?> implementationConstructor() throws Exception {
+        Constructor<?> constructor = implementationConstructor;
+        if (constructor == null) {
+            constructor = Invocations.invokeWith(SqlObjectInitData.INIT_DATA, this, () ->
+                Class.forName(extensionType.getPackage().getName() + "." + extensionType.getSimpleName() + "Impl")
+                    .getConstructor(HandleSupplier.class, ConfigRegistry.class));
+            implementationConstructor = constructor;
+        }
+        return constructor;
+    }
+
     public void configureInstance(ConfigRegistry config) {
         instanceConfigurer.apply(config);
     }
@@ -121,30 +153,134 @@ public final class SqlObjectInitData {
     }
 
     public Supplier<InContextInvoker> lazyInvoker(Object target, Method method, HandleSupplier handle, ConfigRegistry instanceConfig) {
-        return MemoizingSupplier.of(() -> {
-            ExtensionMethod extensionMethod = new ExtensionMethod(extensionType, method);
-            ConfigRegistry methodConfig = methodConfigurers.get(method).apply(instanceConfig.createCopy());
-            Handler methodHandler = methodHandlers.get(method);
+        return MemoizingSupplier.of(() -> invoker(target, indexOf(method), handle, instanceConfig));
+    }
+
+    /**
+     * Creates a proxy implementing the SqlObject type, which looks up the handlers of its methods in the
+     * handler table of this type and creates an invoker for each method on its first call.
+     *
+     * @param passExtensionType the SqlObject type
+     * @param handle the handle supplier of the proxy
+     * @param instanceConfig the configuration of the proxy
+     * @param <E> the SqlObject type
+     * @return the proxy
+     */
+    public <E> E createProxy(Class<E> passExtensionType, HandleSupplier handle, ConfigRegistry instanceConfig) {
+        if (!extensionType.equals(passExtensionType)) {
+            throw new IllegalArgumentException("mismatch extension type");
+        }
+        InContextInvoker[] invokers = new InContextInvoker[handlers.length];
+        return passExtensionType.cast(Proxy.newProxyInstance(
+                passExtensionType.getClassLoader(),
+                new Class[] {passExtensionType},
+                (proxy, method, args) -> invoker(invokers, proxy, method, handle, instanceConfig).invoke(args)));
+    }
+
+    /**
+     * Creates an on-demand proxy implementing the SqlObject type. Each call runs in the handle scope, which
+     * reuses the handle of an enclosing Jdbi callback, or else opens one for the duration of the call. The
+     * configuration of each call is derived from the one of its handle supplier, so the proxy follows later
+     * changes to the Jdbi configuration just like an extension attached for every call.
+     *
+     * @param passExtensionType the SqlObject type
+     * @param scope the handle scope of the Jdbi
+     * @param extraTypes further interfaces for the proxy to implement
+     * @param <E> the SqlObject type
+     * @return the proxy
+     */
+    public <E> E createOnDemandProxy(Class<E> passExtensionType, HandleScope scope, Class<?>... extraTypes) {
+        if (!extensionType.equals(passExtensionType)) {
+            throw new IllegalArgumentException("mismatch extension type");
+        }
+        InContextInvoker[] invokers = new InContextInvoker[handlers.length];
+        Class<?>[] types = Stream.concat(Stream.of(passExtensionType), Arrays.stream(extraTypes))
+            .distinct()
+            .toArray(Class[]::new);
+        return passExtensionType.cast(Proxy.newProxyInstance(
+                passExtensionType.getClassLoader(),
+                types,
+                (proxy, method, args) -> {
+                    int index = indexOf(method);
+                    // racing threads may both create an invoker, which is harmless
+                    InContextInvoker invoker = invokers[index];
+                    if (invoker == null) {
+                        invoker = onDemandInvoker(proxy, index, scope);
+                        invokers[index] = invoker;
+                    }
+                    return invoker.invoke(args);
+                }));
+    }
+
+    private InContextInvoker invoker(InContextInvoker[] invokers, Object proxy, Method method, HandleSupplier handle, ConfigRegistry instanceConfig) {
+        int index = indexOf(method);
+        // racing threads may both create an invoker, which is harmless
+        InContextInvoker invoker = invokers[index];
+        if (invoker == null) {
+            invoker = invoker(proxy, index, handle, instanceConfig);
+            invokers[index] = invoker;
+        }
+        return invoker;
+    }
+
+    private int indexOf(Method method) {
+        Integer index = methodIndex.get(method);
+        if (index == null) {
+            throw new IllegalStateException("No handler for " + method + " in " + extensionType.getName());
+        }
+        return index;
+    }
+
+    private InContextInvoker invoker(Object target, int index, HandleSupplier handle, ConfigRegistry instanceConfig) {
+        ExtensionMethod extensionMethod = extensionMethods[index];
+        ConfigRegistry methodConfig = configurers[index].apply(instanceConfig.createCopy());
+        Handler methodHandler = handlers[index];
+        // an on-demand object is attached for a single call, which resolves everything warming would look up
+        if (!(handle instanceof OnDemandHandleSupplier)) {
             methodHandler.warm(methodConfig);
-            return new InContextInvoker() {
-                @Override
-                public Object invoke(Object[] args) {
-                    return call(() -> methodHandler.invoke(target, args == null ? NO_ARGS : args, handle));
+        }
+        return new InContextInvoker() {
+            @Override
+            public Object invoke(Object[] args) {
+                return call(() -> methodHandler.invoke(target, args == null ? NO_ARGS : args, handle));
+            }
+
+            @Override
+            public Object call(Callable<?> task) {
+                try {
+                    return handle.invokeInContext(
+                            extensionMethod,
+                            methodConfig,
+                            task);
+                } catch (Exception x) {
+                    throw Sneaky.throwAnyway(x);
                 }
+            }
+        };
+    }
 
-                @Override
-                public Object call(Callable<?> task) {
-                    try {
-                        return handle.invokeInContext(
-                                extensionMethod,
-                                methodConfig,
-                                task);
-                    } catch (Exception x) {
-                        throw Sneaky.throwAnyway(x);
-                    }
+    private InContextInvoker onDemandInvoker(Object target, int index, HandleScope scope) {
+        ExtensionMethod extensionMethod = extensionMethods[index];
+        UnaryOperator<ConfigRegistry> methodConfigurer = configurers[index];
+        Handler methodHandler = handlers[index];
+        return new InContextInvoker() {
+            @Override
+            public Object invoke(Object[] args) {
+                return call(() -> methodHandler.invoke(target, args == null ? NO_ARGS : args, scope));
+            }
+
+            @Override
+            public Object call(Callable<?> task) {
+                try {
+                    return scope.call(() -> {
+                        ConfigRegistry methodConfig = methodConfigurer.apply(instanceConfigurer.apply(scope.getConfig().createCopy()));
+                        return scope.invokeInContext(extensionMethod, methodConfig, task);
+                    });
+                } catch (Exception x) {
+                    throw Sneaky.throwAnyway(x);
                 }
-            };
-        });
+            }
+        };
     }
 
     public interface InContextInvoker {
@@ -153,6 +153,23 @@ public class TestOnDemandSqlObject {
         assertThat(all).hasSize(2);
     }
 
+    @Test
+    public void testNestedCallsReuseHandle() throws Exception {
+        Spiffy spiffy = db.onDemand(Spiffy.class);
+        int opened = tracker.openedHandle.size();
+
+        db.useHandle(h -> {
+            spiffy.insert(1, "Tom");
+            spiffy.insert(2, "Sam");
+            assertThat(h.attach(Spiffy.class).insertTwice(3, "Bob")).isEqualTo(2);
+        });
+        db.useExtension(Spiffy.class, extension -> spiffy.insertTwice(5, "Ann"));
+
+        assertThat(tracker.openedHandle).hasSize(opened + 2);
+        assertThat(metaHandle.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(6);
+        assertThat(tracker.hasOpenedHandle()).isFalse();
+    }
+
     public interface Spiffy {
         @SqlUpdate("insert into something (id, name) values (:id, :name)")
         void insert(@Bind("id") long id, @Bind("name") String name);
@@ -169,6 +186,11 @@ public class TestOnDemandSqlObject {
         @UseRowMapper(CrashingMapper.class)
         Iterator<Something> crashOnFirstRead();
 
+        default int insertTwice(long id, String name) {
+            insert(id, name);
+            insert(id + 1, name);
+            return 2;
+        }
     }
 
     public interface TransactionStuff extends Transactional<TransactionStuff> {
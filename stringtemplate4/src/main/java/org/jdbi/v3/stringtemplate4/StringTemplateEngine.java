@@ -13,21 +13,85 @@
  */
 package org.jdbi.v3.stringtemplate4;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.compiler.CompiledST;
+import org.stringtemplate.v4.compiler.FormalArgument;
 
 /**
  * Rewrites a StringTemplate template, using the attributes on the {@link StatementContext} as template parameters.
+ * <p>
+ * Templates are compiled once and cached by {@link org.jdbi.v3.core.statement.SqlStatements}; each statement
+ * execution only creates and renders a template instance.
  */
-public class StringTemplateEngine implements TemplateEngine {
+public class StringTemplateEngine implements TemplateEngine.Parsing {
     @Override
-    public String render(String sql, StatementContext ctx) {
-        ST template = new ST(new STGroup(), sql);
+    public Optional<Function<StatementContext, String>> parse(String template, ConfigRegistry config) {
+        return Optional.of(new CompiledTemplate(template)::render);
+    }
+
+    /**
+     * ST4 declares the attributes of a template without formal arguments when they are first added, which
+     * changes the compiled template. To share a compiled template between threads, it is compiled once for
+     * each set of attribute names with all of them declared up front, so rendering never changes it.
+     */
+    private static final class CompiledTemplate {
+        // statements usually define the same attributes on every execution; anything beyond this is not cached
+        private static final int MAX_ATTRIBUTE_SETS = 16;
+
+        private final String template;
+        private final Map<Set<String>, Compiled> byAttributeNames = new ConcurrentHashMap<>();
+
+        CompiledTemplate(String template) {
+            this.template = template;
+        }
+
+        String render(StatementContext ctx) {
+            Map<String, Object> attributes = ctx.getAttributes();
+            ST instance = compiledFor(attributes.keySet()).newInstance();
+            attributes.forEach(instance::add);
+            return instance.render();
+        }
+
+        private Compiled compiledFor(Set<String> names) {
+            Compiled compiled = byAttributeNames.get(names);
+            if (compiled != null) {
+                return compiled;
+            }
+            Set<String> key = Collections.unmodifiableSet(new HashSet<>(names));
+            if (byAttributeNames.size() >= MAX_ATTRIBUTE_SETS) {
+                return new Compiled(template, key);
+            }
+            return byAttributeNames.computeIfAbsent(key, k -> new Compiled(template, k));
+        }
+    }
+
+    private static final class Compiled {
+        private final STGroup group = new STGroup();
+        private final CompiledST impl;
 
-        ctx.getAttributes().forEach(template::add);
+        Compiled(String template, Set<String> names) {
+            // the same steps as new ST(group, template), which compiles on every call
+            impl = group.compile(group.getFileName(), null, null, template, null);
+            impl.hasFormalArgs = false;
+            impl.name = ST.UNKNOWN_NAME;
+            impl.defineImplicitlyDefinedTemplates(group);
+            names.forEach(name -> impl.addArg(new FormalArgument(name)));
+        }
 
-        return template.render();
+        ST newInstance() {
+            return group.createStringTemplate(impl);
+        }
     }
 }
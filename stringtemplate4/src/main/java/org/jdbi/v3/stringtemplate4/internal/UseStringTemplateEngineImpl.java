@@ -22,9 +22,12 @@ import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.stringtemplate4.StringTemplateEngine;
 
 public class UseStringTemplateEngineImpl implements Configurer {
+    // the engine is stateless; sharing it lets all sql objects share the compiled templates
+    private static final StringTemplateEngine ENGINE = new StringTemplateEngine();
+
     @Override
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
-        registry.get(SqlStatements.class).setTemplateEngine(new StringTemplateEngine());
+        registry.get(SqlStatements.class).setTemplateEngine(ENGINE);
     }
 
     @Override
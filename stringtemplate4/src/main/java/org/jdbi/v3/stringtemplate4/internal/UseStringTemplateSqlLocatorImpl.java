@@ -15,9 +15,13 @@ package org.jdbi.v3.stringtemplate4.internal;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.jdbi.v3.sqlobject.config.Configurer;
@@ -40,18 +44,50 @@ public class UseStringTemplateSqlLocatorImpl implements Configurer {
 
             return templateName;
         };
-        TemplateEngine templateEngine = (templateName, ctx) -> {
-            STGroup group = findStringTemplateGroup(sqlObjectType);
-            ST template = group.getInstanceOf(templateName);
-            ctx.getAttributes().forEach(template::add);
-            return template.render();
-        };
         registry.get(SqlObjects.class).setSqlLocator(locator);
-        registry.get(SqlStatements.class).setTemplateEngine(templateEngine);
+        registry.get(SqlStatements.class).setTemplateEngine(new GroupTemplateEngine(sqlObjectType));
     }
 
     @Override
     public void configureForMethod(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType, Method method) {
         configureForType(registry, annotation, sqlObjectType);
     }
+
+    /**
+     * Renders templates by name from the group file of a sql object type. Engines for the same type are equal,
+     * so the templates they resolve are cached once per type rather than once per configured sql object.
+     */
+    private static final class GroupTemplateEngine implements TemplateEngine.Parsing {
+        private final Class<?> sqlObjectType;
+
+        GroupTemplateEngine(Class<?> sqlObjectType) {
+            this.sqlObjectType = sqlObjectType;
+        }
+
+        @Override
+        public Optional<Function<StatementContext, String>> parse(String templateName, ConfigRegistry config) {
+            // groups are mutable and kept per thread, so look up the group of the rendering thread
+            return Optional.of(ctx -> {
+                ST template = findStringTemplateGroup(sqlObjectType).getInstanceOf(templateName);
+                ctx.getAttributes().forEach(template::add);
+                return template.render();
+            });
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return sqlObjectType.equals(((GroupTemplateEngine) o).sqlObjectType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(GroupTemplateEngine.class, sqlObjectType);
+        }
+    }
 }
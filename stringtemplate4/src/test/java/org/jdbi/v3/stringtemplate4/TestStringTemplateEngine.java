@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.stringtemplate4;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStringTemplateEngine {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private Jdbi jdbi;
+
+    @Before
+    public void setUp() {
+        jdbi = dbRule.getJdbi();
+        jdbi.setTemplateEngine(new StringTemplateEngine());
+    }
+
+    @Test
+    public void testSameTemplateWithDifferentAttributes() {
+        String sql = "select <if(a)>'a'<elseif(b)>'b'<else>'none'<endif>";
+
+        assertThat(select(sql, "a")).isEqualTo("a");
+        assertThat(select(sql, "b")).isEqualTo("b");
+        String none = jdbi.withHandle(h -> h.createQuery(sql).mapTo(String.class).one());
+        assertThat(none).isEqualTo("none");
+        assertThat(select(sql, "a")).isEqualTo("a");
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        String sql = "select <value> as v<if(extra)>, <extra> as e<endif>";
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<String>> futures = IntStream.range(0, 200)
+            .mapToObj(i -> pool.submit(() -> i % 2 == 0
+                ? jdbi.withHandle(h -> h.createQuery(sql).define("value", i).mapTo(String.class).one())
+                : jdbi.withHandle(h -> h.createQuery(sql).define("value", i).define("extra", 0).mapTo(String.class).one())))
+            .collect(Collectors.toList());
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get()).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    private String select(String sql, String attribute) {
+        return jdbi.withHandle(h -> h.createQuery(sql).define(attribute, true).mapTo(String.class).one());
+    }
+}
@@ -30,6 +30,7 @@ import org.jdbi.v3.stringtemplate4.TestStringTemplateSqlLocator.Wombat;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.stringtemplate.v4.STGroup;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -66,4 +67,18 @@ public class TestStringTemplateLoading {
         pool.awaitTermination(10, TimeUnit.SECONDS);
         futures.forEach(Unchecked.consumer(f -> f.get(100, TimeUnit.MILLISECONDS)));
     }
+
+    @Test
+    public void testGroupsAreNotSharedBetweenThreads() throws Exception {
+        STGroup group = StringTemplateSqlLocator.findStringTemplateGroup(Wombat.class);
+        assertThat(StringTemplateSqlLocator.findStringTemplateGroup(Wombat.class)).isSameAs(group);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            STGroup other = pool.submit(() -> StringTemplateSqlLocator.findStringTemplateGroup(Wombat.class)).get();
+            assertThat(other).isNotSameAs(group);
+        } finally {
+            pool.shutdown();
+        }
+    }
 }